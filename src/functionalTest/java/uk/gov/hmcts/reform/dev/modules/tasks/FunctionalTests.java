@@ -2,12 +2,19 @@ package uk.gov.hmcts.reform.dev.modules.tasks;
 
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 
+import java.util.List;
+
 import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
@@ -662,4 +669,306 @@ class FunctionalTests {
                 .statusCode(200).body("content.status", everyItem(equalTo("PENDING")));
         }
     }
+
+    /**
+     * Test: Cursor pagination follows nextCursor through filtered results
+     */
+    @Test
+    void shouldPageThroughTasksWithCursorViaHttp() {
+        // Protected PENDING tasks 999001-999005, due 2026-01-20 to 2026-01-24
+        String nextCursor =
+            given().queryParam("status", "PENDING").queryParam("search", "Protected").queryParam("cursor", "")
+                .queryParam("size", 3).when().get().then().statusCode(200)
+                .body("content.id", equalTo(List.of(999001, 999002, 999003)))
+                .body("size", equalTo(3)).body("nextCursor", notNullValue()).extract().path("nextCursor");
+
+        given().queryParam("status", "PENDING").queryParam("search", "Protected").queryParam("cursor", nextCursor)
+            .queryParam("size", 3).when().get().then().statusCode(200)
+            .body("content.id", equalTo(List.of(999004, 999005))).body("nextCursor", nullValue());
+    }
+
+    /**
+     * Test: 400 when cursor is malformed, or well-formed with a position the server never issues
+     */
+    @Test
+    void shouldReturn400WhenCursorInvalid() {
+        given().queryParam("cursor", "not-a-cursor!").when().get().then().statusCode(400)
+            .body("status", equalTo(400)).body("error", equalTo("Bad Request"));
+        // 2026-01-15T10:00|-1
+        given().queryParam("cursor", "MjAyNi0wMS0xNVQxMDowMHwtMQ").when().get().then().statusCode(400);
+    }
+
+    /**
+     * Test: count=NONE returns a slice with hasNext but no totals
+     */
+    @Test
+    void shouldReturnSliceWhenCountNoneViaHttp() {
+        given().queryParam("status", "PENDING").queryParam("search", "Protected").queryParam("count", "NONE")
+            .queryParam("size", 3).when().get().then().statusCode(200)
+            .body("content", hasSize(3)).body("page.hasNext", equalTo(true))
+            .body("page.totalElements", nullValue()).body("page.estimated", equalTo(false));
+    }
+
+    /**
+     * Test: Batch create persists every task and returns them in request order
+     */
+    @Test
+    void shouldCreateTasksInBatchViaHttpPost() {
+        String requestBody = """
+            [
+                {"title": "Batch intake A", "dueDate": "2026-03-01T09:00:00"},
+                {"title": "Batch intake B", "description": "Second", "dueDate": "2026-03-02T09:00:00"}
+            ]
+            """;
+
+        given().contentType(ContentType.JSON).body(requestBody).when().post("/batch").then().statusCode(201)
+            .body("$", hasSize(2)).body("title", equalTo(List.of("Batch intake A", "Batch intake B")))
+            .body("id", everyItem(notNullValue())).body("status", everyItem(equalTo("PENDING")));
+    }
+
+    /**
+     * Test: Batch create reports errors per item index and saves nothing
+     */
+    @Test
+    void shouldReturn400WithItemIndexWhenBatchItemInvalid() {
+        String requestBody = """
+            [
+                {"title": "Batch reject valid", "dueDate": "2026-03-01T09:00:00"},
+                {"title": "", "dueDate": "2026-03-02T09:00:00"}
+            ]
+            """;
+
+        given().contentType(ContentType.JSON).body(requestBody).when().post("/batch").then().statusCode(400)
+            .body("error", equalTo("Validation Failed")).body("validationErrors['[1].title']", notNullValue());
+
+        given().queryParam("search", "Batch reject valid").when().get().then().statusCode(200)
+            .body("totalElements", equalTo(0));
+    }
+
+    /**
+     * Test: Bulk status change by id list returns the affected count
+     */
+    @Test
+    void shouldBulkUpdateStatusByIdsViaHttpPatch() {
+        String batch = """
+            [
+                {"title": "Bulk close A", "dueDate": "2026-03-01T09:00:00"},
+                {"title": "Bulk close B", "dueDate": "2026-03-02T09:00:00"}
+            ]
+            """;
+        List<Integer> ids = given().contentType(ContentType.JSON).body(batch).when().post("/batch").then()
+            .statusCode(201).extract().path("id");
+
+        String requestBody =
+            String.format("{\"ids\": [%d, %d], \"status\": \"COMPLETED\"}", ids.get(0), ids.get(1));
+        given().contentType(ContentType.JSON).body(requestBody).when().patch("/bulk/status").then().statusCode(200)
+            .body("affected", equalTo(2));
+
+        given().when().get("/{id}", ids.get(0)).then().statusCode(200).body("status", equalTo("COMPLETED"));
+    }
+
+    /**
+     * Test: 400 when a bulk request gives both ids and filter
+     */
+    @Test
+    void shouldReturn400WhenBulkSelectionAmbiguous() {
+        String requestBody = """
+            {"ids": [999019], "filter": {"status": "PENDING"}, "status": "COMPLETED"}
+            """;
+
+        given().contentType(ContentType.JSON).body(requestBody).when().patch("/bulk/status").then().statusCode(400)
+            .body("error", equalTo("Bad Request"));
+    }
+
+    /**
+     * Test: Export streams filtered tasks as CSV with an attachment header
+     */
+    @Test
+    void shouldExportFilteredTasksAsCsvViaHttp() {
+        String csv = given().queryParam("status", "COMPLETED").queryParam("search", "Protected")
+            .queryParam("format", "CSV").when().get("/export").then().statusCode(200)
+            .header("Content-Disposition", equalTo("attachment; filename=tasks.csv"))
+            .extract().asString();
+
+        // Header plus protected COMPLETED tasks 999011-999015, in due date order
+        String[] lines = csv.split("\r\n");
+        assertEquals("id,title,description,status,dueDate,createdAt,updatedAt", lines[0]);
+        assertEquals(6, lines.length);
+        assertTrue(lines[1].startsWith("999011,"));
+        assertTrue(lines[5].startsWith("999015,"));
+    }
+
+    /**
+     * Test: CSV import saves valid rows and reports rejected ones by line
+     */
+    @Test
+    void shouldImportCsvViaHttpPost() {
+        String csv = "title,description,dueDate\r\n"
+            + "Imported via http,From legacy system,2026-07-01T09:00:00\r\n"
+            + ",Missing title,2026-07-02T09:00:00\r\n";
+
+        given().contentType("text/csv").queryParam("format", "CSV").body(csv).when().post("/import").then()
+            .statusCode(200).body("rowsRead", equalTo(2)).body("imported", equalTo(1)).body("rejected", equalTo(1))
+            .body("rejectedRows[0].line", equalTo(3)).body("rejectedRows[0].errors.title", notNullValue());
+
+        given().queryParam("search", "Imported via http").when().get().then().statusCode(200)
+            .body("totalElements", equalTo(1));
+    }
+
+    /**
+     * Test: Prometheus scrape exposes endpoint, service, pool and Hibernate metrics
+     */
+    @Test
+    void shouldExposePrometheusMetricsViaHttp() {
+        given().when().get("/999001").then().statusCode(200);
+
+        String metrics = given().basePath("/").when().get("/prometheus").then().statusCode(200)
+            .extract().asString();
+
+        assertTrue(metrics.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(metrics.contains("uri=\"/api/tasks/{id}\""));
+        assertTrue(metrics.contains("tasks_service_seconds_bucket{"));
+        assertTrue(metrics.contains("method=\"getTask\""));
+        assertTrue(metrics.contains("hikaricp_connections_active"));
+        assertTrue(metrics.contains("hibernate_statements_total"));
+    }
+
+    /**
+     * Test: ETags on task resources - 304 for a current If-None-Match, 412 for a stale If-Match
+     */
+    @Test
+    void shouldHonourConditionalRequestsOnTaskViaHttp() {
+        String createBody = """
+            {
+                "title": "Conditional request task",
+                "dueDate": "2026-02-20T09:00:00"
+            }
+            """;
+        Integer taskId =
+            given().contentType(ContentType.JSON).body(createBody).post().then().statusCode(201).extract().path("id");
+
+        String etag = given().get("/{id}", taskId).then().statusCode(200).extract().header("ETag");
+        assertEquals("\"0\"", etag);
+
+        // Polling with the current ETag gets an empty 304
+        given().header("If-None-Match", etag).get("/{id}", taskId).then().statusCode(304)
+            .header("ETag", equalTo(etag));
+
+        // A write with the current ETag succeeds and moves the ETag on
+        String updateBody = """
+            {
+                "status": "IN_PROGRESS"
+            }
+            """;
+        given().contentType(ContentType.JSON).header("If-Match", etag).body(updateBody)
+            .patch("/{id}/status", taskId).then().statusCode(200).header("ETag", equalTo("\"1\""));
+
+        // A second write still holding the old ETag is refused, and the old ETag no longer gets a 304
+        given().contentType(ContentType.JSON).header("If-Match", etag).body(updateBody)
+            .patch("/{id}/status", taskId).then().statusCode(412).body("error", equalTo("Precondition Failed"));
+        given().header("If-None-Match", etag).get("/{id}", taskId).then().statusCode(200)
+            .header("ETag", equalTo("\"1\""));
+
+        // A weak or malformed If-Match can never match: 412 for an existing task, but 404 for a missing one
+        given().contentType(ContentType.JSON).header("If-Match", "W/\"1\"").body(updateBody)
+            .patch("/{id}/status", taskId).then().statusCode(412);
+        given().contentType(ContentType.JSON).header("If-Match", "not-an-etag").body(updateBody)
+            .patch("/{id}/status", 999_999_999).then().statusCode(404);
+        given().contentType(ContentType.JSON).header("If-Match", "W/\"1\"").body(updateBody)
+            .patch("/{id}/status", 999_999_999).then().statusCode(404);
+    }
+
+    /**
+     * Test: list ETag from the change counter - 304 while nothing changes, 200 with a new ETag after a write
+     */
+    @Test
+    void shouldAnswerUnchangedListPollsWith304ViaHttp() {
+        String etag = given().queryParam("status", "PENDING").when().get().then().statusCode(200)
+            .header("ETag", notNullValue()).extract().header("ETag");
+
+        given().queryParam("status", "PENDING").header("If-None-Match", etag).when().get().then().statusCode(304);
+
+        String createBody = """
+            {
+                "title": "Moves the list ETag",
+                "dueDate": "2026-02-21T09:00:00"
+            }
+            """;
+        given().contentType(ContentType.JSON).body(createBody).post().then().statusCode(201);
+
+        String newEtag = given().queryParam("status", "PENDING").header("If-None-Match", etag).when().get().then()
+            .statusCode(200).extract().header("ETag");
+        assertNotEquals(etag, newEtag);
+    }
+
+    /**
+     * Test: GET /api/tasks/stats - counts move with each write, without a query per combination
+     */
+    @Test
+    void shouldServeTaskStatsViaHttp() {
+        ExtractableResponse<Response> before = given().get("/stats").then().statusCode(200)
+            .body("overdue", notNullValue())
+            .body("dueToday", notNullValue())
+            .extract();
+        int pending = before.path("byStatus.PENDING");
+        int total = before.path("total");
+
+        String createBody = """
+            {
+                "title": "Counted in stats",
+                "dueDate": "2030-03-01T09:00:00"
+            }
+            """;
+        given().contentType(ContentType.JSON).body(createBody).post().then().statusCode(201);
+
+        given().get("/stats").then().statusCode(200)
+            .body("byStatus.PENDING", equalTo(pending + 1))
+            .body("total", equalTo(total + 1));
+    }
+
+    /**
+     * Test: GET /api/tasks/changes - a full sync hands back a token to resume from; a bad token is rejected
+     */
+    @Test
+    void shouldServeTaskChangesViaHttp() {
+        String token = given().queryParam("limit", 1000).get("/changes").then().statusCode(200)
+            .body("changed", notNullValue())
+            .body("deleted", notNullValue())
+            .body("nextToken", notNullValue())
+            .extract().path("nextToken");
+
+        given().queryParam("since", token).get("/changes").then().statusCode(200)
+            .body("nextToken", notNullValue());
+
+        given().queryParam("since", "not-a-token").get("/changes").then().statusCode(400);
+        given().queryParam("since", "MTA0MnwtMQ").get("/changes").then().statusCode(400);  // 1042|-1
+        given().queryParam("limit", 0).get("/changes").then().statusCode(400);
+    }
+
+    /**
+     * Test: includeArchived=true - live tasks are still found, by id and in every list mode; missing ids are 404
+     */
+    @Test
+    void shouldReadThroughToArchiveViaHttp() {
+        String createBody = """
+            {
+                "title": "Archive read-through task",
+                "dueDate": "2026-02-22T09:00:00"
+            }
+            """;
+        Integer taskId =
+            given().contentType(ContentType.JSON).body(createBody).post().then().statusCode(201).extract().path("id");
+
+        given().queryParam("includeArchived", true).get("/{id}", taskId).then().statusCode(200)
+            .header("ETag", equalTo("\"0\""))
+            .body("title", equalTo("Archive read-through task"));
+        given().queryParam("includeArchived", true).get("/{id}", 999999999).then().statusCode(404);
+
+        given().queryParam("includeArchived", true).queryParam("search", "read-through").get().then()
+            .statusCode(200).body("content.id", hasItems(taskId));
+        given().queryParam("includeArchived", true).queryParam("search", "read-through").queryParam("count", "NONE")
+            .get().then().statusCode(200).body("content.id", hasItems(taskId));
+        given().queryParam("includeArchived", true).queryParam("search", "read-through").queryParam("cursor", "")
+            .get().then().statusCode(200).body("content.id", hasItems(taskId));
+    }
 }
@@ -35,4 +35,4 @@ VALUES
   (999020, 'Modifiable - No Description', NULL, 'PENDING', '2026-01-19 10:00:00', '2026-01-01 09:00:00', '2026-01-01 09:00:00');
 
 -- Reset sequence to avoid ID conflicts with test-created tasks
-ALTER TABLE tasks ALTER COLUMN id RESTART WITH 999100;
+ALTER SEQUENCE task_id_seq RESTART WITH 999100;
@@ -1,44 +1,164 @@
 package uk.gov.hmcts.reform.dev.modules.tasks;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.modules.global.validators.DateTimeParser;
+import uk.gov.hmcts.reform.dev.modules.tasks.cache.TaskResponseCache;
+import uk.gov.hmcts.reform.dev.modules.tasks.controllers.TaskController;
+import uk.gov.hmcts.reform.dev.modules.tasks.deadlines.TaskDeadlineEvent;
+import uk.gov.hmcts.reform.dev.modules.tasks.deadlines.TaskDeadlineScheduler;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkDeleteDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkRescheduleDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkStatusDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.CreationDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.CursorPageDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ImportResultDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskFilterDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskChangesDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskStatsDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.UpdateDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.UpdateStatusDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.StaleTaskException;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.SyncTokenExpiredException;
 import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.modules.tasks.io.TaskFileFormat;
 import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
 import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.modules.tasks.outbox.InMemoryTaskEventSink;
+import uk.gov.hmcts.reform.dev.modules.tasks.outbox.OutboxMessage;
+import uk.gov.hmcts.reform.dev.modules.tasks.outbox.TaskOutboxRelay;
+import uk.gov.hmcts.reform.dev.modules.tasks.pagination.CountMode;
 import uk.gov.hmcts.reform.dev.modules.tasks.repositories.TaskRepository;
+import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskArchiver;
+import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskChangeCounter;
+import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskChangeLog;
+import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskExportService;
+import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskImportService;
 import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskService;
-
+import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskStatistics;
+import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskSyncService;
+import uk.gov.hmcts.reform.dev.modules.tasks.stream.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.modules.tasks.stream.TaskChangeFeed;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
-@SpringBootTest
+// The archiver is only run by hand, so a scheduled run cannot take a test's tasks first
+@SpringBootTest(properties = {"tasks.outbox.sink=memory", "tasks.archive.initial-delay=1d"})
 @Transactional
+@RecordApplicationEvents
+@Import(JdbcStatementCounter.class)
 class IntegrationTests {
 
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskController taskController;
+
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskResponseCache taskResponseCache;
+
+    @Autowired
+    private TaskChangeCounter taskChangeCounter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
+    @Autowired
+    private TaskDeadlineScheduler taskDeadlines;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private JdbcStatementCounter jdbcStatements;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Autowired
+    private TaskOutboxRelay taskOutboxRelay;
+
+    @Autowired
+    private InMemoryTaskEventSink taskEventSink;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskSyncService taskSyncService;
+
+    @Autowired
+    private TaskChangeLog taskChangeLog;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Test
     void shouldCreateTaskAndPersistToDatabase() {
         // Arrange
@@ -512,4 +632,904 @@ class IntegrationTests {
         assertTrue(resultsUpper.getContent().stream().anyMatch(t -> t.getTitle().contains("Review")));
         assertTrue(resultsMixed.getContent().stream().anyMatch(t -> t.getTitle().contains("Review")));
     }
+
+    @Test
+    void shouldWalkAllMatchingTasksWithCursor() {
+        // Arrange - several tasks share a due date so the id tie-break matters
+        for (int i = 1; i <= 7; i++) {
+            CreationDTO task = new CreationDTO("Cursor walk " + i, null, "2026-03-0" + (i % 3 + 1) + "T10:00:00");
+            taskService.createTask(task);
+        }
+
+        // Act - follow nextCursor until exhausted
+        List<ResponseDTO> walked = new ArrayList<>();
+        String cursor = "";
+        do {
+            CursorPageDTO page = taskService.getTasksByCursor(null, "Cursor walk", null, null, cursor, 3);
+            assertTrue(page.getContent().size() <= 3);
+            walked.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Assert - every task seen exactly once, in (dueDate, id) order
+        assertEquals(7, walked.size());
+        assertEquals(7, new HashSet<>(walked.stream().map(ResponseDTO::getId).toList()).size());
+        for (int i = 1; i < walked.size(); i++) {
+            ResponseDTO previous = walked.get(i - 1);
+            ResponseDTO current = walked.get(i);
+            assertTrue(previous.getDueDate().isBefore(current.getDueDate())
+                || (previous.getDueDate().isEqual(current.getDueDate()) && previous.getId() < current.getId()));
+        }
+    }
+
+    @Test
+    void shouldServeEstimatedCountUntilNextWrite() {
+        // Arrange
+        taskService.createTask(new CreationDTO("Estimate me 1", null, "2026-01-20T10:00:00"));
+        taskService.createTask(new CreationDTO("Estimate me 2", null, "2026-01-21T10:00:00"));
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("dueDate").ascending());
+
+        // Act - first call counts, second call reuses it
+        TaskPageDTO first = taskService.getTaskPage(null, "estimate me", null, null, pageable, CountMode.ESTIMATED);
+        TaskPageDTO second = taskService.getTaskPage(null, "estimate me", null, null, pageable, CountMode.ESTIMATED);
+
+        // Assert
+        assertFalse(first.getPage().isEstimated());
+        assertEquals(2L, first.getPage().getTotalElements());
+        assertTrue(second.getPage().isEstimated());
+        assertEquals(2L, second.getPage().getTotalElements());
+
+        // Act - a write drops the cached total
+        taskService.createTask(new CreationDTO("Estimate me 3", null, "2026-01-22T10:00:00"));
+        TaskPageDTO third = taskService.getTaskPage(null, "estimate me", null, null, pageable, CountMode.ESTIMATED);
+
+        // Assert
+        assertFalse(third.getPage().isEstimated());
+        assertEquals(3L, third.getPage().getTotalElements());
+    }
+
+    @Test
+    void shouldReturnSliceWithoutTotalsWhenCountNone() {
+        // Arrange
+        for (int i = 1; i <= 3; i++) {
+            taskService.createTask(new CreationDTO("Slice task " + i, null, "2026-01-2" + i + "T10:00:00"));
+        }
+
+        // Act
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("dueDate").ascending());
+        TaskPageDTO firstSlice = taskService.getTaskPage(null, "slice task", null, null, pageable, CountMode.NONE);
+        TaskPageDTO lastSlice =
+            taskService.getTaskPage(null, "slice task", null, null, pageable.next(), CountMode.NONE);
+
+        // Assert
+        assertEquals(2, firstSlice.getContent().size());
+        assertTrue(firstSlice.getPage().isHasNext());
+        assertNull(firstSlice.getPage().getTotalElements());
+        assertEquals(1, lastSlice.getContent().size());
+        assertFalse(lastSlice.getPage().isHasNext());
+    }
+
+    @Test
+    void shouldMatchSubstringsThroughTrigramIndex() {
+        // Arrange
+        taskService.createTask(new CreationDTO("Preview bundle", null, "2026-01-20T10:00:00"));
+        taskService.createTask(new CreationDTO("Archive bundle", "Nothing to see", "2026-01-21T10:00:00"));
+
+        // Act - "evie" only appears mid-word, so the index must not be word-based
+        Pageable pageable = PageRequest.of(0, 100, Sort.by("dueDate").ascending());
+        Page<ResponseDTO> results = taskService.getAllTasks(null, "evie", null, null, pageable);
+
+        // Assert
+        List<ResponseDTO> tasks = results.getContent();
+        assertTrue(tasks.stream().anyMatch(t -> "Preview bundle".equals(t.getTitle())));
+        assertFalse(tasks.stream().anyMatch(t -> "Archive bundle".equals(t.getTitle())));
+    }
+
+    @Test
+    void shouldRankTitleMatchesAboveDescriptionMatchesWhenUnsorted() {
+        // Arrange - the description-only match is due first, so due-date order would put it first
+        taskService.createTask(new CreationDTO("Chase solicitor", "Relevancy check pending", "2026-01-20T10:00:00"));
+        taskService.createTask(new CreationDTO("Bundle relevancy check", null, "2026-01-21T10:00:00"));
+        taskService.createTask(new CreationDTO("Relevancy check hearing", null, "2026-01-22T10:00:00"));
+
+        // Act - unsorted Pageable selects relevance ordering
+        Page<ResponseDTO> results = taskService.getAllTasks(null, "relevancy check", null, null, PageRequest.of(0, 10));
+
+        // Assert - title prefix, then title substring, then description-only
+        List<String> titles = results.getContent().stream().map(ResponseDTO::getTitle).toList();
+        assertEquals(List.of("Relevancy check hearing", "Bundle relevancy check", "Chase solicitor"), titles);
+        assertEquals(3, results.getTotalElements());
+    }
+
+    @Test
+    void shouldDropSearchPostingsWhenTaskTextChangesOrTaskIsDeleted() {
+        // Arrange
+        ResponseDTO created = taskService.createTask(new CreationDTO("Quokka audit", null, "2026-01-20T10:00:00"));
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("dueDate").ascending());
+
+        // Act - renaming the task must stop the old text matching
+        taskService.updateTask(created.getId(),
+                               new UpdateDTO("Wombat audit", null, "2026-01-20T10:00:00", TaskStatus.PENDING));
+
+        // Assert
+        assertEquals(0, taskService.getAllTasks(null, "quokka", null, null, pageable).getTotalElements());
+        assertEquals(1, taskService.getAllTasks(null, "wombat", null, null, pageable).getTotalElements());
+
+        // Act & Assert - deleting removes it from search entirely
+        taskService.deleteTask(created.getId());
+        assertEquals(0, taskService.getAllTasks(null, "wombat", null, null, pageable).getTotalElements());
+    }
+
+    @Test
+    void shouldCreateBatchWithSequenceIdsAndIndexIt() {
+        // Arrange - more than one sequence allocation block (50) and one JDBC batch
+        List<CreationDTO> dtos = new ArrayList<>();
+        for (int i = 1; i <= 120; i++) {
+            dtos.add(new CreationDTO("Batch intake " + i, null, "2026-02-01T10:00:00"));
+        }
+
+        // Act
+        List<ResponseDTO> created = taskService.createTasks(dtos);
+
+        // Assert - ids assigned in order, all persisted and searchable
+        assertEquals(120, created.size());
+        for (int i = 1; i < created.size(); i++) {
+            assertTrue(created.get(i - 1).getId() < created.get(i).getId());
+        }
+        assertTrue(taskRepository.existsById(created.getLast().getId()));
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("dueDate").ascending());
+        assertEquals(120, taskService.getAllTasks(null, "batch intake", null, null, pageable).getTotalElements());
+    }
+
+    @Test
+    void shouldBulkUpdateStatusByFilterAndSkipTasksAlreadyInStatus() {
+        // Arrange
+        ResponseDTO first = taskService.createTask(new CreationDTO("Hearing 42 prep", null, "2026-04-01T10:00:00"));
+        ResponseDTO second = taskService.createTask(new CreationDTO("Hearing 42 bundle", null, "2026-04-02T10:00:00"));
+        taskService.updateStatus(second.getId(), new UpdateStatusDTO(TaskStatus.COMPLETED));
+        LocalDateTime secondUpdatedAt = taskRepository.findById(second.getId()).orElseThrow().getUpdatedAt();
+
+        // Act
+        long affected = taskService.bulkUpdateStatus(new BulkStatusDTO(
+            null, new TaskFilterDTO(null, "hearing 42", null, null), TaskStatus.COMPLETED)).getAffected();
+
+        // Assert - only the PENDING task changed; the already-COMPLETED one kept its updatedAt
+        assertEquals(1, affected);
+        Task updatedFirst = taskRepository.findById(first.getId()).orElseThrow();
+        assertEquals(TaskStatus.COMPLETED, updatedFirst.getStatus());
+        assertFalse(updatedFirst.getUpdatedAt().isBefore(first.getUpdatedAt()));
+        assertEquals(secondUpdatedAt, taskRepository.findById(second.getId()).orElseThrow().getUpdatedAt());
+    }
+
+    @Test
+    void shouldAdvanceVersionOnEveryWriteAndRejectStaleExpectedVersion() {
+        // Arrange
+        ResponseDTO created = taskService.createTask(new CreationDTO("Versioned", null, "2026-04-03T10:00:00"));
+        assertEquals(0L, created.getVersion());
+
+        // Act - an entity update, then a bulk UPDATE that bypasses Hibernate's own versioning
+        ResponseDTO updated = taskService.updateTask(created.getId(),
+            new UpdateDTO("Versioned", "Now with a description", "2026-04-03T10:00:00", TaskStatus.PENDING), 0L);
+        taskService.bulkUpdateStatus(new BulkStatusDTO(List.of(created.getId()), null, TaskStatus.COMPLETED));
+
+        // Assert - both writes moved the version, so the version the client last saw is now stale
+        assertEquals(1L, updated.getVersion());
+        assertEquals(2L, taskService.getVersion(created.getId()));
+        assertThrows(StaleTaskException.class, () -> taskService.updateStatus(
+            created.getId(), new UpdateStatusDTO(TaskStatus.PENDING), updated.getVersion()));
+    }
+
+    @Test
+    void shouldBulkRescheduleByIds() {
+        // Arrange
+        ResponseDTO first = taskService.createTask(new CreationDTO("Adjourned A", null, "2026-04-01T10:00:00"));
+        ResponseDTO second = taskService.createTask(new CreationDTO("Adjourned B", null, "2026-04-02T15:30:00"));
+
+        // Act
+        long affected = taskService.bulkReschedule(
+            new BulkRescheduleDTO(List.of(first.getId(), second.getId()), null, Duration.ofDays(7))).getAffected();
+
+        // Assert
+        assertEquals(2, affected);
+        assertEquals(LocalDateTime.parse("2026-04-08T10:00:00"),
+                     taskRepository.findById(first.getId()).orElseThrow().getDueDate());
+        assertEquals(LocalDateTime.parse("2026-04-09T15:30:00"),
+                     taskRepository.findById(second.getId()).orElseThrow().getDueDate());
+    }
+
+    @Test
+    void shouldBulkDeleteByFilter() {
+        // Arrange
+        ResponseDTO first = taskService.createTask(new CreationDTO("Closed list item 1", null, "2026-04-01T10:00:00"));
+        ResponseDTO second = taskService.createTask(new CreationDTO("Closed list item 2", null, "2026-04-02T10:00:00"));
+
+        // Act
+        long affected = taskService.bulkDelete(
+            new BulkDeleteDTO(null, new TaskFilterDTO(null, "closed list item", null, null))).getAffected();
+
+        // Assert
+        assertEquals(2, affected);
+        assertFalse(taskRepository.existsById(first.getId()));
+        assertFalse(taskRepository.existsById(second.getId()));
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("dueDate").ascending());
+        assertEquals(0, taskService.getAllTasks(null, "closed list item", null, null, pageable).getTotalElements());
+    }
+
+    @Test
+    void shouldExportMatchingTasksAsNdjsonInDueDateOrder() throws IOException {
+        // Arrange
+        taskService.createTask(new CreationDTO("Export run later", null, "2026-05-02T10:00:00"));
+        taskService.createTask(new CreationDTO("Export run earlier", "First", "2026-05-01T10:00:00"));
+
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = taskExportService.export(null, "export run", null, null, TaskFileFormat.NDJSON, out);
+
+        // Assert - one JSON object per line, earliest due first
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, written);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"title\":\"Export run earlier\""));
+        assertTrue(lines[0].contains("\"dueDate\":\"2026-05-01T10:00:00\""));
+        assertTrue(lines[1].contains("\"title\":\"Export run later\""));
+    }
+
+    @Test
+    void shouldExportCsvWithHeaderAndQuotedFields() throws IOException {
+        // Arrange
+        taskService.createTask(new CreationDTO("Csv export, quoted", "Says \"hello\"", "2026-05-01T10:00:00"));
+
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        taskExportService.export(null, "csv export", null, null, TaskFileFormat.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals("id,title,description,status,dueDate,createdAt,updatedAt", lines[0]);
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].contains(",\"Csv export, quoted\",\"Says \"\"hello\"\"\",PENDING,2026-05-01T10:00:00,"));
+    }
+
+    @Test
+    void shouldImportValidNdjsonRowsAndReportRejectedOnes() throws IOException {
+        // Arrange - line 2 is not JSON, line 4 has no title, line 3 is blank
+        String ndjson = """
+            {"title": "Imported backlog 1", "dueDate": "2026-06-01T10:00:00"}
+            {not json
+
+            {"description": "No title", "dueDate": "2026-06-02T10:00:00"}
+            {"title": "Imported backlog 2", "description": "Legacy", "dueDate": "2026-06-03T10:00:00"}
+            """;
+
+        // Act
+        ImportResultDTO result = taskImportService.importTasks(
+            TaskFileFormat.NDJSON, new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(4, result.getRowsRead());
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getRejected());
+        assertEquals(2, result.getRejectedRows().getFirst().getLine());
+        assertTrue(result.getRejectedRows().getFirst().getErrors().containsKey("row"));
+        assertEquals(4, result.getRejectedRows().getLast().getLine());
+        assertTrue(result.getRejectedRows().getLast().getErrors().containsKey("title"));
+        assertFalse(result.isRejectedRowsTruncated());
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("dueDate").ascending());
+        assertEquals(2, taskService.getAllTasks(null, "imported backlog", null, null, pageable).getTotalElements());
+    }
+
+    @Test
+    void shouldRejectNdjsonLinesThatAreNotObjects() throws IOException {
+        // Arrange
+        String ndjson = """
+            null
+            42
+            ["Imported non-object", "2026-06-01T10:00:00"]
+            {"title": "Imported after non-objects", "dueDate": "2026-06-04T10:00:00"}
+            """;
+
+        // Act
+        ImportResultDTO result = taskImportService.importTasks(
+            TaskFileFormat.NDJSON, new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(4, result.getRowsRead());
+        assertEquals(1, result.getImported());
+        assertEquals(3, result.getRejected());
+        assertEquals(List.of(1L, 2L, 3L), result.getRejectedRows().stream().map(row -> row.getLine()).toList());
+        assertTrue(result.getRejectedRows().stream().allMatch(row -> row.getErrors().containsKey("row")));
+    }
+
+    @Test
+    void shouldImportCsvWithQuotedMultilineFieldsAndExtraColumns() throws IOException {
+        // Arrange - columns in any order, unknown "status" column ignored, bad date on the last row
+        String csv = "status,dueDate,title,description\r\n"
+            + "PENDING,2026-06-01T10:00:00,Csv import one,\"Line one\nline two, with comma\"\r\n"
+            + "PENDING,2026-06-02T10:00:00,\"Csv import \"\"two\"\"\",\r\n"
+            + "PENDING,02/06/2026,Csv import three,\r\n";
+
+        // Act
+        ImportResultDTO result = taskImportService.importTasks(
+            TaskFileFormat.CSV, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert - the multiline record still counts as one row, so the bad row is on physical line 5
+        assertEquals(3, result.getRowsRead());
+        assertEquals(2, result.getImported());
+        assertEquals(5, result.getRejectedRows().getFirst().getLine());
+        assertTrue(result.getRejectedRows().getFirst().getErrors().containsKey("dueDate"));
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("dueDate").ascending());
+        List<ResponseDTO> imported =
+            taskService.getAllTasks(null, "csv import", null, null, pageable).getContent();
+        assertEquals("Line one\nline two, with comma", imported.getFirst().getDescription());
+        assertEquals("Csv import \"two\"", imported.getLast().getTitle());
+        assertNull(imported.getLast().getDescription());
+    }
+
+    @Test
+    void shouldImportBatchesLargerThanTheBatchCreateLimit() throws IOException {
+        // Arrange - one batch of 1500, above the 1000 tasks POST /api/tasks/batch accepts
+        TaskImportService largeBatches = new TaskImportService(taskService, validator, objectMapper, 1500, 100);
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 1200; i++) {
+            ndjson.append("{\"title\": \"Large import ").append(i)
+                .append("\", \"dueDate\": \"2026-06-01T10:00:00\"}\n");
+        }
+
+        // Act
+        ImportResultDTO result = largeBatches.importTasks(
+            TaskFileFormat.NDJSON, new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(1200, result.getImported());
+        assertEquals(0, result.getRejected());
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("dueDate").ascending());
+        assertEquals(1200, taskService.getAllTasks(null, "large import", null, null, pageable).getTotalElements());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // One transaction per call, as in a real request
+    void shouldServeRepeatedTaskReadsFromCacheAfterOneVersionLookup() {
+        // Arrange
+        Long id = taskService.createTask(new CreationDTO("Second-level cached", null, "2026-05-01T09:00:00")).getId();
+        try {
+            sessionFactory().getCache().evictEntityData(Task.class);
+            taskResponseCache.invalidate(id);
+            Statistics statistics = sessionFactory().getStatistics();
+            statistics.clear();
+
+            // Act - the first GET reads the version, then misses both caches and loads the task
+            taskController.getTask(id, false, null);
+            assertEquals(2, statistics.getPrepareStatementCount());
+            assertEquals(1, statistics.getSecondLevelCacheMissCount());
+            assertEquals(1, statistics.getSecondLevelCachePutCount());
+
+            awaitNextCacheTimestamp();
+            statistics.clear();
+            byte[] cached = taskController.getTask(id, false, null).getBody();
+
+            // Assert - a repeat GET runs only the version lookup, and the body comes from the response cache
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getSecondLevelCacheHitCount() + statistics.getSecondLevelCacheMissCount());
+            assertNotNull(cached);
+            assertTrue(new String(cached, StandardCharsets.UTF_8).contains("\"title\":\"Second-level cached\""));
+
+            // Without the response cache entry, the entity comes from the second-level cache
+            taskResponseCache.invalidate(id);
+            statistics.clear();
+            taskController.getTask(id, false, null);
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        } finally {
+            taskService.deleteTask(id);
+        }
+    }
+
+    @Test
+    void shouldSkipTheVersionCheckOnlyWithinMaxStaleness() {
+        // Arrange - the default configuration checks every request; this cache allows a minute
+        TaskResponseCache lenient =
+            new TaskResponseCache(objectMapper, DataSize.ofMegabytes(1), Duration.ofMinutes(10), Duration.ofMinutes(1));
+        ResponseDTO task = new ResponseDTO();
+        task.setId(1L);
+        task.setVersion(3L);
+
+        // Act
+        lenient.get(1L, 3L, () -> task);
+
+        // Assert - served unchecked until this instance writes to the task
+        assertNull(taskResponseCache.getRecentlyVerified(1L));
+        assertEquals(3L, lenient.getRecentlyVerified(1L).version());
+        lenient.invalidate(1L);
+        assertNull(lenient.getRecentlyVerified(1L));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldKeepSecondLevelCacheConsistentOnUpdateAndDelete() {
+        // Arrange - two cached tasks
+        Long id = taskService.createTask(new CreationDTO("Cache invalidation", null, "2026-05-02T09:00:00")).getId();
+        Long otherId = taskService.createTask(new CreationDTO("Stays cached", null, "2026-05-03T09:00:00")).getId();
+        try {
+            taskService.getTask(id);
+            taskService.getTask(otherId);
+            awaitNextCacheTimestamp();
+            Statistics statistics = sessionFactory().getStatistics();
+
+            // Act - the update evicts just its own entry
+            taskService.updateStatus(id, new UpdateStatusDTO(TaskStatus.COMPLETED));
+            awaitNextCacheTimestamp();
+            statistics.clear();
+
+            // Assert - the next read loads the committed update rather than a stale entry; the other task is
+            // still served from the cache
+            assertEquals(TaskStatus.COMPLETED, taskService.getTask(id).getStatus());
+            assertEquals(1, statistics.getSecondLevelCacheMissCount());
+            assertEquals(TaskStatus.PENDING, taskService.getTask(otherId).getStatus());
+            assertEquals(1, statistics.getSecondLevelCacheHitCount());
+
+            // The delete likewise leaves the other task's entry alone
+            taskService.deleteTask(id);
+            awaitNextCacheTimestamp();
+            statistics.clear();
+            assertThrows(TaskNotFoundException.class, () -> taskService.getTask(id));
+            taskService.getTask(otherId);
+            assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        } finally {
+            taskService.deleteTask(otherId);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldUpdateStatusWithSingleStatementOnColdCache() {
+        // Arrange - not cached, so a load-then-update would need a SELECT first. Due after today, so its minute is
+        // kept in task_due_counts and never folded into overdue
+        String nextMonth = LocalDateTime.now().plusDays(30).format(DateTimeFormatter.ofPattern(DateTimeParser.PATTERN));
+        ResponseDTO created = taskService.createTask(new CreationDTO("Update in one", null, nextMonth));
+        Long id = created.getId();
+        try {
+            sessionFactory().getCache().evictEntityData(Task.class);
+            jdbcStatements.start();
+
+            // Act
+            ResponseDTO updated = taskService.updateStatus(
+                id, new UpdateStatusDTO(TaskStatus.COMPLETED), created.getVersion());
+
+            // Assert - the one UPDATE on tasks, then at commit the task_stats UPDATE, the task_due_counts MERGE,
+            // the change counter UPDATE, the task_changes MERGE and the outbox write
+            List<String> executed = jdbcStatements.executed();
+            assertEquals(6, executed.size(), executed::toString);
+            List<String> onTasks = statementsOnTasks();
+            assertEquals(1, onTasks.size(), executed::toString);
+            assertTrue(onTasks.getFirst().contains("UPDATE tasks"), onTasks::toString);
+            assertEquals(TaskStatus.COMPLETED, updated.getStatus());
+            assertEquals(created.getVersion() + 1, updated.getVersion());
+
+            // A stale version matches nothing in the same statement, and only then is the task looked up
+            jdbcStatements.start();
+            assertThrows(StaleTaskException.class, () -> taskService.updateStatus(
+                id, new UpdateStatusDTO(TaskStatus.PENDING), created.getVersion()));
+            assertEquals(2, jdbcStatements.executed().size(), jdbcStatements.executed()::toString);
+            assertEquals(TaskStatus.COMPLETED, taskService.getTask(id).getStatus());
+        } finally {
+            taskService.deleteTask(id);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldDeleteTaskWithSingleStatement() {
+        // Arrange - not cached, so a load-then-delete would need a SELECT first. Due after today, as above
+        String nextMonth = LocalDateTime.now().plusDays(30).format(DateTimeFormatter.ofPattern(DateTimeParser.PATTERN));
+        Long id = taskService.createTask(new CreationDTO("Delete in one", null, nextMonth)).getId();
+        sessionFactory().getCache().evictEntityData(Task.class);
+        jdbcStatements.start();
+
+        // Act
+        taskService.deleteTask(id);
+
+        // Assert - the one DELETE on tasks, which also returns what the statistics need; then the task_trigrams
+        // write, and at commit the task_stats UPDATE, the task_due_counts MERGE, the change counter UPDATE, the
+        // task_changes MERGE and the outbox write
+        List<String> executed = jdbcStatements.executed();
+        assertEquals(7, executed.size(), executed::toString);
+        List<String> onTasks = statementsOnTasks();
+        assertEquals(1, onTasks.size(), executed::toString);
+        assertTrue(onTasks.getFirst().contains("DELETE FROM tasks"), onTasks::toString);
+
+        // A missing task costs just that statement, rolled back, and still surfaces as a 404
+        jdbcStatements.start();
+        assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(id));
+        assertEquals(1, jdbcStatements.executed().size(), jdbcStatements.executed()::toString);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldCountCommittedTaskChangesOncePerTransaction() {
+        // Arrange
+        long before = taskChangeCounter.current();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act - two writes in one transaction, then a write that is rolled back
+        Long id = transaction.execute(status -> {
+            ResponseDTO created = taskService.createTask(new CreationDTO("Counted", null, "2026-05-05T09:00:00"));
+            taskService.updateStatus(created.getId(), new UpdateStatusDTO(TaskStatus.IN_PROGRESS));
+            return created.getId();
+        });
+        long afterCommit = taskChangeCounter.current();
+        transaction.executeWithoutResult(status -> {
+            taskService.updateStatus(id, new UpdateStatusDTO(TaskStatus.COMPLETED));
+            status.setRollbackOnly();
+        });
+
+        // Assert - the committed transaction moved the counter once; the rolled-back one not at all
+        assertEquals(before + 1, afterCommit);
+        assertEquals(afterCommit, taskChangeCounter.current());
+
+        taskService.deleteTask(id);
+        assertEquals(afterCommit + 1, taskChangeCounter.current());
+    }
+
+    @Test
+    void shouldServeCachedTaskJsonUntilTheTaskChanges() {
+        // Arrange
+        Long id = taskService.createTask(new CreationDTO("Cached json", null, "2026-05-03T09:00:00")).getId();
+        byte[] first = taskResponseCache.get(id, () -> taskService.getTask(id)).json();
+
+        // Act - a second read never reaches the service
+        byte[] second = taskResponseCache.get(id, () -> fail("Cached task should not be reloaded")).json();
+
+        // Assert
+        assertSame(first, second);
+        assertTrue(new String(first, StandardCharsets.UTF_8).contains("\"title\":\"Cached json\""));
+
+        // Any write through TaskService drops the cached bytes
+        taskService.updateStatus(id, new UpdateStatusDTO(TaskStatus.COMPLETED));
+        String refreshed =
+            new String(taskResponseCache.get(id, () -> taskService.getTask(id)).json(), StandardCharsets.UTF_8);
+        assertTrue(refreshed.contains("\"status\":\"COMPLETED\""));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldReloadCachedTaskOlderThanTheDatabaseVersion() {
+        // Arrange - the task is cached as JSON and as an entity, then changed as another instance would change it,
+        // without evicting anything here
+        Long id = taskService.createTask(new CreationDTO("Seen here", null, "2026-05-04T09:00:00")).getId();
+        long cachedVersion = taskService.getVersion(id);
+        taskResponseCache.get(id, cachedVersion, () -> taskService.getTask(id, cachedVersion));
+        jdbcTemplate.update("UPDATE tasks SET title = 'Changed elsewhere', version = version + 1 WHERE id = ?", id);
+
+        // Act
+        long version = taskService.getVersion(id);
+        TaskResponseCache.CachedTask response =
+            taskResponseCache.get(id, version, () -> taskService.getTask(id, version));
+
+        // Assert - both cache layers were behind the database version, and neither was served
+        assertEquals(cachedVersion + 1, version);
+        assertEquals(version, response.version());
+        assertTrue(new String(response.json(), StandardCharsets.UTF_8).contains("\"title\":\"Changed elsewhere\""));
+        assertEquals("Changed elsewhere", taskService.getTask(id).getTitle());
+
+        taskService.deleteTask(id);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldKeepTaskStatsInStepWithCommittedWrites() {
+        // Arrange - start from an exact recount
+        taskStatistics.reconcile();
+        TaskStatsDTO before = taskService.getStats();
+        DateTimeFormatter format = DateTimeFormatter.ofPattern(DateTimeParser.PATTERN);
+        String twoDaysAgo = LocalDateTime.now().minusDays(2).format(format);
+        String nextMonth = LocalDateTime.now().plusDays(30).format(format);
+
+        // Act - an overdue task, and a future one that is started
+        Long overdueId = taskService.createTask(new CreationDTO("Stats overdue", null, twoDaysAgo)).getId();
+        Long futureId = taskService.createTask(new CreationDTO("Stats future", null, nextMonth)).getId();
+        taskService.updateStatus(futureId, new UpdateStatusDTO(TaskStatus.IN_PROGRESS));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskService.createTask(new CreationDTO("Stats rolled back", null, twoDaysAgo));
+            status.setRollbackOnly();
+        });
+        TaskStatsDTO during = taskService.getStats();
+
+        // Assert - only committed writes are counted
+        assertEquals(before.getByStatus().get(TaskStatus.PENDING) + 1, during.getByStatus().get(TaskStatus.PENDING));
+        assertEquals(before.getByStatus().get(TaskStatus.IN_PROGRESS) + 1,
+                     during.getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(before.getOverdue() + 1, during.getOverdue());
+        assertEquals(before.getTotal() + 2, during.getTotal());
+
+        // Bulk changes apply each task's change from the rows they return, and a delete reads the row it removes
+        taskService.bulkReschedule(new BulkRescheduleDTO(List.of(overdueId), null, Duration.ofDays(3)));
+        assertEquals(before.getOverdue(), taskService.getStats().getOverdue());
+        taskService.bulkReschedule(new BulkRescheduleDTO(List.of(overdueId), null, Duration.ofDays(-3)));
+        assertEquals(before.getOverdue() + 1, taskService.getStats().getOverdue());
+        taskService.bulkUpdateStatus(new BulkStatusDTO(List.of(futureId), null, TaskStatus.COMPLETED));
+        taskService.deleteTask(overdueId);
+        TaskStatsDTO after = taskService.getStats();
+        assertEquals(before.getByStatus().get(TaskStatus.COMPLETED) + 1, after.getByStatus().get(TaskStatus.COMPLETED));
+        assertEquals(before.getOverdue(), after.getOverdue());
+        assertEquals(before.getDueToday(), after.getDueToday());
+
+        // The maintained counts agree with a full recount
+        taskStatistics.reconcile();
+        TaskStatsDTO recounted = taskService.getStats();
+        assertEquals(after.getByStatus(), recounted.getByStatus());
+        assertEquals(after.getOverdue(), recounted.getOverdue());
+        assertEquals(after.getDueToday(), recounted.getDueToday());
+
+        taskService.deleteTask(futureId);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldAnnounceDeadlinesOnlyForTasksStillOpen() {
+        // Arrange - two tasks due in 20 minutes, one of which is then completed
+        LocalDateTime now = LocalDateTime.now();
+        String dueDate = now.plusMinutes(20).format(DateTimeFormatter.ofPattern(DateTimeParser.PATTERN));
+        Long openId = taskService.createTask(new CreationDTO("Deadline open", null, dueDate)).getId();
+        Long completedId = taskService.createTask(new CreationDTO("Deadline completed", null, dueDate)).getId();
+        taskService.updateStatus(completedId, new UpdateStatusDTO(TaskStatus.COMPLETED));
+
+        // Act - past the 15-minute due-soon lead, then past the due date
+        taskDeadlines.advanceTo(now.plusMinutes(6));
+        List<Long> dueSoon = announced(TaskDeadlineEvent.Kind.DUE_SOON);
+        taskDeadlines.advanceTo(now.plusMinutes(21));
+        List<Long> overdue = announced(TaskDeadlineEvent.Kind.OVERDUE);
+
+        // Assert
+        assertTrue(dueSoon.contains(openId));
+        assertFalse(dueSoon.contains(completedId));
+        assertTrue(overdue.contains(openId));
+        assertFalse(overdue.contains(completedId));
+
+        taskService.deleteTask(openId);
+        taskService.deleteTask(completedId);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldReplayCommittedChangesAfterLastEventId() {
+        // Arrange
+        String lastEventId = taskChangeFeed.lastEventId();
+
+        // Act - a create, a status change and a delete, with a rolled-back create among them
+        Long id = taskService.createTask(new CreationDTO("Streamed task", null, "2026-06-01T09:00:00")).getId();
+        taskService.updateStatus(id, new UpdateStatusDTO(TaskStatus.IN_PROGRESS));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskService.createTask(new CreationDTO("Never streamed", null, "2026-06-01T09:00:00"));
+            status.setRollbackOnly();
+        });
+        taskService.deleteTask(id);
+
+        // Assert - only committed changes, in order, and an unknown id cannot be resumed from
+        List<TaskChangeEvent> events = taskChangeFeed.eventsAfter(lastEventId).orElseThrow();
+        assertEquals(
+            List.of(TaskChangeEvent.Type.CREATED, TaskChangeEvent.Type.STATUS_CHANGED, TaskChangeEvent.Type.DELETED),
+            events.stream().map(TaskChangeEvent::type).toList());
+        assertTrue(events.get(1).json().contains("\"status\":\"IN_PROGRESS\""));
+        assertEquals("{\"id\":" + id + "}", events.get(2).json());
+        assertEquals(events.get(2).id(), taskChangeFeed.lastEventId());
+        assertTrue(taskChangeFeed.eventsAfter("unknown-1").isEmpty());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldRelayCommittedChangesFromTheOutboxInOrder() {
+        // Arrange - a create, a status change and a delete, with a rolled-back create among them
+        Long id = taskService.createTask(new CreationDTO("Relayed task", null, "2026-06-01T09:00:00")).getId();
+        taskService.updateStatus(id, new UpdateStatusDTO(TaskStatus.COMPLETED));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskService.createTask(new CreationDTO("Never relayed", null, "2026-06-01T09:00:00"));
+            status.setRollbackOnly();
+        });
+        taskService.deleteTask(id);
+
+        // Act
+        taskOutboxRelay.relay();
+
+        // Assert - delivered once each, in commit order, then removed from the outbox
+        List<OutboxMessage> messages = taskEventSink.messages().stream()
+            .filter(message -> id.equals(message.taskId()))
+            .toList();
+        assertEquals(
+            List.of(TaskChangeEvent.Type.CREATED, TaskChangeEvent.Type.STATUS_CHANGED, TaskChangeEvent.Type.DELETED),
+            messages.stream().map(OutboxMessage::type).toList());
+        assertTrue(messages.get(0).id() < messages.get(1).id() && messages.get(1).id() < messages.get(2).id());
+        assertTrue(messages.get(1).payload().contains("\"status\":\"COMPLETED\""));
+        assertTrue(taskEventSink.messages().stream().noneMatch(message -> message.payload().contains("Never relayed")));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_outbox", Integer.class));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldRelayOneMessagePerTaskFromBulkOperations() {
+        // Arrange
+        Long first = taskService.createTask(new CreationDTO("Bulk relayed A", null, "2026-06-01T09:00:00")).getId();
+        Long second = taskService.createTask(new CreationDTO("Bulk relayed B", null, "2026-06-02T09:00:00")).getId();
+        List<Long> ids = List.of(first, second);
+
+        // Act
+        taskService.bulkUpdateStatus(new BulkStatusDTO(ids, null, TaskStatus.IN_PROGRESS));
+        taskService.bulkReschedule(new BulkRescheduleDTO(ids, null, Duration.ofDays(1)));
+        taskService.bulkDelete(new BulkDeleteDTO(ids, null));
+        taskOutboxRelay.relay();
+
+        // Assert - each task's own changes, in order, with the task as it was left by each change
+        for (Long id : ids) {
+            List<OutboxMessage> messages = taskEventSink.messages().stream()
+                .filter(message -> id.equals(message.taskId()))
+                .toList();
+            assertEquals(
+                List.of(TaskChangeEvent.Type.CREATED, TaskChangeEvent.Type.STATUS_CHANGED,
+                        TaskChangeEvent.Type.UPDATED, TaskChangeEvent.Type.DELETED),
+                messages.stream().map(OutboxMessage::type).toList());
+            assertTrue(messages.get(1).payload().contains("\"status\":\"IN_PROGRESS\""));
+            String movedDueDate = id.equals(first) ? "2026-06-02T09:00:00" : "2026-06-03T09:00:00";
+            assertTrue(messages.get(2).payload().contains(movedDueDate));
+            assertEquals("{\"id\":" + id + "}", messages.get(3).payload());
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldSyncOnlyWhatChangedSinceTheToken() {
+        // Arrange - a full sync, read to the end a page at a time
+        String token = fullSync();
+
+        // Act - one task created and updated, one created and deleted
+        Long keptId = taskService.createTask(new CreationDTO("Synced task", null, "2026-06-01T09:00:00")).getId();
+        Long deletedId = taskService.createTask(new CreationDTO("Deleted task", null, "2026-06-01T09:00:00")).getId();
+        taskService.updateStatus(keptId, new UpdateStatusDTO(TaskStatus.IN_PROGRESS));
+        taskService.deleteTask(deletedId);
+        TaskChangesDTO changes = taskSyncService.getChanges(token, 100);
+
+        // Assert - the kept task once, at its latest state, and the deleted one as a tombstone only
+        assertEquals(List.of(keptId), changes.getChanged().stream().map(ResponseDTO::getId).toList());
+        assertEquals(TaskStatus.IN_PROGRESS, changes.getChanged().getFirst().getStatus());
+        assertEquals(List.of(deletedId), changes.getDeleted());
+        assertFalse(changes.isHasMore());
+
+        // Nothing further until something else changes
+        TaskChangesDTO next = taskSyncService.getChanges(changes.getNextToken(), 100);
+        assertTrue(next.getChanged().isEmpty());
+        assertTrue(next.getDeleted().isEmpty());
+
+        taskService.deleteTask(keptId);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldSyncAWriteThatCommitsAfterATokenNewerThanItsTimestamp() throws Exception {
+        // Arrange - a task created, and its updatedAt stamped, in a transaction that is held open
+        String token = fullSync();
+        CountDownLatch created = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Long> slowWrite = CompletableFuture.supplyAsync(() ->
+            new TransactionTemplate(transactionManager).execute(status -> {
+                Long id = taskService.createTask(new CreationDTO("Slow write", null, "2026-06-01T09:00:00")).getId();
+                created.countDown();
+                try {
+                    assertTrue(release.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return id;
+            }));
+        assertTrue(created.await(10, TimeUnit.SECONDS));
+
+        // Act - a sync while it is in flight, then one after it commits
+        TaskChangesDTO during = taskSyncService.getChanges(token, 100);
+        release.countDown();
+        Long id = slowWrite.get(10, TimeUnit.SECONDS);
+        TaskChangesDTO after = taskSyncService.getChanges(during.getNextToken(), 100);
+
+        // Assert - the task is not skipped, though its updatedAt is older than the first call
+        assertTrue(during.getChanged().isEmpty());
+        assertEquals(List.of(id), after.getChanged().stream().map(ResponseDTO::getId).toList());
+
+        taskService.deleteTask(id);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldRejectASyncTokenOlderThanThePurgedDeletes() {
+        // Arrange - a token, then a delete purged as if the retention had passed
+        String token = taskSyncService.getChanges(null, 1).getNextToken();
+        Long id = taskService.createTask(new CreationDTO("Purged", null, "2026-06-01T09:00:00")).getId();
+        taskService.deleteTask(id);
+        jdbcTemplate.update("UPDATE task_changes SET deleted_at = ? WHERE task_id = ?",
+                            LocalDateTime.now().minusYears(1), id);
+
+        // Act
+        taskChangeLog.purge();
+
+        // Assert - the token may have missed the purged delete; a token from after it has not
+        assertThrows(SyncTokenExpiredException.class, () -> taskSyncService.getChanges(token, 100));
+        assertNotNull(taskSyncService.getChanges(fullSync(), 100));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldArchiveOldCompletedTasksAndReadThemOnlyWithIncludeArchived() {
+        // Arrange - two completed tasks, one last changed a year ago, and an open task just as old
+        Long oldId = taskService.createTask(new CreationDTO("Archived ledger", null, "2025-03-01T09:00:00")).getId();
+        Long recentId = taskService.createTask(new CreationDTO("Recent ledger", null, "2025-03-02T09:00:00")).getId();
+        Long openId = taskService.createTask(new CreationDTO("Open ledger", null, "2025-03-03T09:00:00")).getId();
+        taskService.updateStatus(oldId, new UpdateStatusDTO(TaskStatus.COMPLETED));
+        taskService.updateStatus(recentId, new UpdateStatusDTO(TaskStatus.COMPLETED));
+        taskService.getTask(oldId);  // Now in the second-level cache
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE id IN (?, ?)",
+                            LocalDateTime.now().minusDays(365), oldId, openId);
+        TaskStatsDTO before = taskService.getStats();
+
+        // Act
+        int archived = taskArchiver.archive();
+
+        // Assert - only the old completed task has moved, and it has left the cache and the stats
+        assertEquals(1, archived);
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTask(oldId));
+        assertEquals(TaskStatus.COMPLETED, taskService.getTask(recentId).getStatus());
+        assertEquals(TaskStatus.PENDING, taskService.getTask(openId).getStatus());
+        assertEquals(before.getByStatus().get(TaskStatus.COMPLETED) - 1,
+                     taskService.getStats().getByStatus().get(TaskStatus.COMPLETED));
+
+        // Reads that include the archive find it by id, by listing and by search
+        ResponseDTO fromArchive = taskService.getArchivedTask(oldId);
+        assertEquals("Archived ledger", fromArchive.getTitle());
+        assertEquals(fromArchive.getVersion(), taskService.getVersion(oldId, true));
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("dueDate").ascending());
+        assertEquals(List.of(recentId),
+                     taskService.getAllTasks(TaskStatus.COMPLETED, "ledger", null, null, pageable)
+                         .map(ResponseDTO::getId).getContent());
+        Page<ResponseDTO> withArchive =
+            taskService.getAllTasks(TaskStatus.COMPLETED, "ledger", null, null, pageable, true);
+        assertEquals(List.of(oldId, recentId), withArchive.map(ResponseDTO::getId).getContent());
+        assertEquals(2, withArchive.getTotalElements());
+
+        // Nothing is left to archive
+        assertEquals(0, taskArchiver.archive());
+
+        taskService.deleteTask(recentId);
+        taskService.deleteTask(openId);
+        jdbcTemplate.update("DELETE FROM tasks_archive WHERE id = ?", oldId);
+    }
+
+    // A full sync read to the end, a page at a time; returns the token to resume from
+    private String fullSync() {
+        TaskChangesDTO page = taskSyncService.getChanges(null, 1000);
+        while (page.isHasMore()) {
+            page = taskSyncService.getChanges(page.getNextToken(), 1000);
+        }
+        return page.getNextToken();
+    }
+
+    private List<Long> announced(TaskDeadlineEvent.Kind kind) {
+        return applicationEvents.stream(TaskDeadlineEvent.class)
+            .filter(event -> event.kind() == kind)
+            .flatMap(event -> event.taskIds().stream())
+            .toList();
+    }
+
+    // The statements recorded since jdbcStatements.start() that read or write the tasks table itself
+    private List<String> statementsOnTasks() {
+        return jdbcStatements.executed().stream().filter(sql -> sql.matches("(?is).*\\btasks\\b.*")).toList();
+    }
+
+    private SessionFactoryImplementor sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    // Read-write cache entries are only visible to transactions that start after the entry was written
+    private void awaitNextCacheTimestamp() {
+        RegionFactory regionFactory = sessionFactory().getCache().getRegionFactory();
+        long written = regionFactory.nextTimestamp();
+        while (regionFactory.nextTimestamp() <= written) {
+            Thread.onSpinWait();
+        }
+    }
 }
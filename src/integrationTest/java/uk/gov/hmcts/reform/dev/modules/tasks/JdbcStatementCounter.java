@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.dev.modules.tasks;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+
+/**
+ * Records the SQL of every statement the application's DataSource executes on the thread that last called start().
+ * Unlike Hibernate's statistics this also sees JdbcTemplate and other plain JDBC work, such as the task_stats,
+ * change counter and outbox writes made as a transaction commits. A JDBC batch counts as one statement.
+ */
+class JdbcStatementCounter implements BeanPostProcessor {
+
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private volatile Thread recording;
+
+    /**
+     * Forget what has been recorded and record from now on, on the calling thread only.
+     */
+    void start() {
+        executed.clear();
+        recording = Thread.currentThread();
+    }
+
+    List<String> executed() {
+        return List.copyOf(executed);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource ? new RecordingDataSource(dataSource) : bean;
+    }
+
+    private final class RecordingDataSource extends DelegatingDataSource {
+
+        RecordingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrapConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrapConnection(super.getConnection(username, password));
+        }
+
+        private Connection wrapConnection(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    // prepareStatement and prepareCall take the SQL first; createStatement takes it at execute
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                    return result instanceof Statement statement ? wrapStatement(statement, sql) : result;
+                }
+            );
+        }
+
+        private Statement wrapStatement(Statement statement, String preparedSql) {
+            Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+            return (Statement) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute") && Thread.currentThread() == recording) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String text
+                            ? text : preparedSql;
+                        executed.add(sql == null ? "<batch>" : sql);
+                    }
+                    return invoke(statement, method, args);
+                }
+            );
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
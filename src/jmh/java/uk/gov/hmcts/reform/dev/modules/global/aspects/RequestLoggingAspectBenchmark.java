@@ -0,0 +1,121 @@
+package uk.gov.hmcts.reform.dev.modules.global.aspects;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.RequestBody;
+import uk.gov.hmcts.reform.dev.modules.tasks.controllers.TaskController;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.CreationDTO;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of RequestLoggingAspect for a call with no body (DELETE), one task (POST) and a
+ * 1000-task batch, with the logger at INFO and with it disabled. "legacy" is the aspect as it was:
+ * reflecting over the parameters on every call and rendering the whole body with toString().
+ * Events go to an appender that formats the message and drops it, so console I/O is not measured.
+ * Sampling and the per-second cap are left off here; in production they only remove more work.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestLoggingAspectBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestLoggingAspect.class);
+
+    @Param({"deleteTask", "createTask", "createTasks"})
+    private String endpoint;
+
+    @Param({"INFO", "WARN"})
+    private String level;
+
+    private final RequestLoggingAspect aspect = new RequestLoggingAspect(1.0, 0, 2000);
+    private Method method;
+    private Object[] args;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        DiscardingAppender appender = new DiscardingAppender();
+        appender.setContext(context);
+        appender.start();
+        root.addAppender(appender);
+        context.getLogger(RequestLoggingAspect.class).setLevel(Level.toLevel(level));
+
+        switch (endpoint) {
+            case "deleteTask" -> {
+                method = TaskController.class.getMethod("deleteTask", Long.class);
+                args = new Object[] {42L};
+            }
+            case "createTask" -> {
+                method = TaskController.class.getMethod("createTask", CreationDTO.class);
+                args = new Object[] {creationDto(1)};
+            }
+            default -> {
+                method = TaskController.class.getMethod("createTasks", List.class);
+                List<CreationDTO> batch = new ArrayList<>();
+                for (int i = 0; i < 1000; i++) {
+                    batch.add(creationDto(i));
+                }
+                args = new Object[] {batch};
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacy() {
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            boolean requestBody = Arrays.stream(parameters[i].getAnnotations())
+                .anyMatch(annotation -> annotation.annotationType().equals(RequestBody.class));
+            if (requestBody) {
+                String methodName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+                logger.info("Request to {}: {}", methodName, args[i] == null ? "null" : args[i].toString());
+            }
+        }
+    }
+
+    @Benchmark
+    public void current() {
+        aspect.logRequestBody(method, args);
+    }
+
+    private static CreationDTO creationDto(int i) {
+        return new CreationDTO("Task " + i, "Review the bundle for hearing " + i, "2026-03-15T10:30:00");
+    }
+
+    // Formats each event as a real appender would, then throws it away
+    private static final class DiscardingAppender extends AppenderBase<ILoggingEvent> {
+
+        private int formattedLength;
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            formattedLength += event.getFormattedMessage().length();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.dev.modules.global.validators;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.CreationDTO;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The dueDate of one create request, validated and then parsed for the entity. "perRequestBefore" is what the
+ * validator and TaskService used to do: build a formatter and parse, then parse again with a shared one.
+ * "perRequestAfter" is the request parsing once for the validator and handing the service the same value.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateTimeParserBenchmark {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(DateTimeParser.PATTERN);
+
+    private String dueDate;
+
+    @Setup
+    public void setUp() {
+        dueDate = String.format("2026-%02d-15T10:30:00", 3);  // Not a compile-time constant
+    }
+
+    @Benchmark
+    public LocalDateTime formatter() {
+        return LocalDateTime.parse(dueDate, FORMATTER);
+    }
+
+    @Benchmark
+    public LocalDateTime fixedWidth() {
+        return DateTimeParser.parseFixedWidth(dueDate);
+    }
+
+    @Benchmark
+    public LocalDateTime perRequestBefore() {
+        LocalDateTime.parse(dueDate, DateTimeFormatter.ofPattern(DateTimeParser.PATTERN));
+        return LocalDateTime.parse(dueDate, FORMATTER);
+    }
+
+    @Benchmark
+    public LocalDateTime perRequestAfter() {
+        CreationDTO dto = new CreationDTO("Title", null, dueDate);
+        dto.parsedDateTime();
+        return dto.parsedDateTime();
+    }
+}
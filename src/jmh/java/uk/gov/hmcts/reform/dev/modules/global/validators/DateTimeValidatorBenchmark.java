@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.dev.modules.global.validators;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.CreationDTO;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ValidDateTime check on a create request, for both an accepted and a rejected value, through Bean Validation as
+ * a request is checked. Each run validates a fresh request, so the dueDate is parsed rather than read back.
+ * The rejected case pays for the DateTimeParseException, so the two are measured separately.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateTimeValidatorBenchmark {
+
+    private Validator validator;
+    private String valid;
+    private String invalid;
+
+    @Setup
+    public void setUp() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        // Built at run time so the JIT cannot treat them as constants
+        valid = String.format("2026-%02d-15T10:30:00", 3);
+        invalid = String.format("2026-%02d-15 10:30", 3);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreationDTO>> validateAccepted() {
+        return validator.validate(new CreationDTO("Title", null, valid));
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreationDTO>> validateRejected() {
+        return validator.validate(new CreationDTO("Title", null, invalid));
+    }
+}
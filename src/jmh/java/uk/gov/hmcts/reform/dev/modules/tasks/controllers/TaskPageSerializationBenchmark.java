@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.controllers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON rendering of a GET /api/tasks page. The application serializes Page via PagedModel
+ * (EnableSpringDataWebSupport VIA_DTO), with an ObjectMapper configured as Spring Boot configures it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskPageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private PagedModel<ResponseDTO> page;
+
+    @Setup
+    public void setUp() {
+        TaskStatus[] statuses = TaskStatus.values();
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        List<ResponseDTO> tasks = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            TaskStatus status = statuses[i % statuses.length];
+            tasks.add(new ResponseDTO(
+                1_000_000L + i,
+                "Review case file " + i,
+                "Review all documents in case file ABC" + i + " before the hearing",
+                status,
+                status.getDisplayValue(),
+                base.plusDays(i),
+                base.minusDays(30),
+                base.minusDays(i % 7),
+                (long) i % 3
+            ));
+        }
+        page = new PagedModel<>(new PageImpl<>(tasks, PageRequest.of(0, pageSize), 5_000));
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping, run once per task on every read path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseDTOBenchmark {
+
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        task = new Task();
+        task.setId(1_000_123L);
+        task.setTitle("Review case file");
+        task.setDescription("Review all documents in case file ABC123 before the hearing");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setDueDate(LocalDateTime.of(2026, 3, 15, 10, 30));
+        task.setCreatedAt(LocalDateTime.of(2026, 1, 2, 9, 0));
+        task.setUpdatedAt(LocalDateTime.of(2026, 1, 5, 14, 45));
+    }
+
+    @Benchmark
+    public ResponseDTO fromTask() {
+        return ResponseDTO.fromTask(task);
+    }
+}
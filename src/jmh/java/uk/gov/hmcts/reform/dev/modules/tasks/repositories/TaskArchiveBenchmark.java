@@ -0,0 +1,178 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.repositories;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskTrigram;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskWithArchive;
+import uk.gov.hmcts.reform.dev.modules.tasks.specifications.TaskSpecifications;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The default GET /api/tasks page (open tasks by due date, with its COUNT) against in-memory H2 holding the same
+ * tasks two ways: all in the tasks table, and with the old completed ones moved to tasks_archive by TaskArchiver.
+ * archivedPercent is the share of tasks that are old and completed. withArchivePage reads both tables through
+ * tasks_with_archive, the cost of includeArchived=true.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskArchiveBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final String COLUMNS = "id, title, description, status, due_date, created_at, updated_at, version";
+    // The index the default listing reads in production (V3__add_task_indexes.sql)
+    private static final String STATUS_DUE_DATE_INDEX =
+        "CREATE INDEX idx_tasks_status_due_date ON tasks (status, due_date)";
+
+    @Param({"50", "90"})
+    private int archivedPercent;
+
+    private SessionFactory unarchivedFactory;
+    private SessionFactory archivedFactory;
+    private Session unarchivedSession;
+    private Session archivedSession;
+    private TaskRepositoryCustomImpl unarchived;
+    private TaskRepositoryCustomImpl archived;
+    private Specification<Task> openTasks;
+    private Specification<TaskWithArchive> openTasksWithArchive;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // Tasks up to the cut are old and completed; the rest are open
+        int cut = ROWS * archivedPercent / 100;
+
+        // A database per trial, so the view below never meets Hibernate's schema export
+        unarchivedFactory = sessionFactory("jmh-unarchived-" + archivedPercent);
+        unarchivedFactory.inTransaction(session -> {
+            session.createNativeMutationQuery(STATUS_DUE_DATE_INDEX).executeUpdate();
+            session.createNativeMutationQuery(insert("tasks", "COMPLETED", 1, cut)).executeUpdate();
+            session.createNativeMutationQuery(insert("tasks", "PENDING", cut + 1, ROWS)).executeUpdate();
+        });
+
+        archivedFactory = sessionFactory("jmh-archived-" + archivedPercent);
+        archivedFactory.inTransaction(session -> {
+            session.createNativeMutationQuery(STATUS_DUE_DATE_INDEX).executeUpdate();
+            // Hibernate created a table for TaskWithArchive; swap it for the migration's view
+            session.createNativeMutationQuery("DROP TABLE tasks_with_archive").executeUpdate();
+            session.createNativeMutationQuery(
+                "CREATE TABLE tasks_archive (id BIGINT PRIMARY KEY, title VARCHAR(200) NOT NULL, "
+                    + "description VARCHAR(1000), status VARCHAR(20) NOT NULL, due_date TIMESTAMP NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, version BIGINT NOT NULL, "
+                    + "archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)").executeUpdate();
+            session.createNativeMutationQuery(
+                "CREATE VIEW tasks_with_archive AS SELECT " + COLUMNS + " FROM tasks "
+                    + "UNION ALL SELECT " + COLUMNS + " FROM tasks_archive").executeUpdate();
+            session.createNativeMutationQuery(insert("tasks_archive", "COMPLETED", 1, cut)).executeUpdate();
+            session.createNativeMutationQuery(insert("tasks", "PENDING", cut + 1, ROWS)).executeUpdate();
+        });
+
+        unarchivedSession = readOnlySession(unarchivedFactory);
+        archivedSession = readOnlySession(archivedFactory);
+        unarchived = repository(unarchivedSession);
+        archived = repository(archivedSession);
+
+        openTasks = TaskSpecifications.withFilters(TaskStatus.PENDING, null, null, null);
+        openTasksWithArchive = TaskSpecifications.withFilters(TaskStatus.PENDING, null, null, null);
+        pageable = PageRequest.of(0, 20, Sort.by("dueDate").ascending());
+    }
+
+    @TearDown
+    public void tearDown() {
+        unarchivedSession.close();
+        archivedSession.close();
+        unarchivedFactory.close();
+        archivedFactory.close();
+    }
+
+    @Benchmark
+    public Page<ResponseDTO> unarchivedPage() {
+        return inTransaction(unarchivedSession, () -> unarchived.findPage(Task.class, openTasks, pageable));
+    }
+
+    @Benchmark
+    public Page<ResponseDTO> hotPage() {
+        return inTransaction(archivedSession, () -> archived.findPage(Task.class, openTasks, pageable));
+    }
+
+    @Benchmark
+    public Page<ResponseDTO> withArchivePage() {
+        return inTransaction(
+            archivedSession, () -> archived.findPage(TaskWithArchive.class, openTasksWithArchive, pageable));
+    }
+
+    private static String insert(String table, String status, int from, int to) {
+        return "INSERT INTO " + table + " (" + COLUMNS + ") "
+            + "SELECT x, 'Task ' || x, 'Description for task ' || x, '" + status + "', "
+            + "DATEADD('MINUTE', x, TIMESTAMP '2025-01-01 09:00:00'), "
+            + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 FROM SYSTEM_RANGE(" + from + ", " + to + ")";
+    }
+
+    private static SessionFactory sessionFactory(String database) {
+        return new Configuration()
+            .addAnnotatedClass(Task.class)
+            .addAnnotatedClass(TaskTrigram.class)
+            .addAnnotatedClass(TaskWithArchive.class)
+            .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:" + database + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .setProperty("hibernate.cache.use_second_level_cache", "false")
+            .buildSessionFactory();
+    }
+
+    // What @Transactional(readOnly = true) does to the Hibernate session
+    private static Session readOnlySession(SessionFactory factory) {
+        Session session = factory.openSession();
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+        return session;
+    }
+
+    private static TaskRepositoryCustomImpl repository(Session session) throws ReflectiveOperationException {
+        TaskRepositoryCustomImpl repository = new TaskRepositoryCustomImpl();
+        Field entityManager = TaskRepositoryCustomImpl.class.getDeclaredField("entityManager");
+        entityManager.setAccessible(true);
+        entityManager.set(repository, session);
+        return repository;
+    }
+
+    private static <T> T inTransaction(Session session, Supplier<T> query) {
+        session.beginTransaction();
+        try {
+            T result = query.get();
+            session.getTransaction().commit();
+            return result;
+        } finally {
+            session.clear();
+        }
+    }
+}
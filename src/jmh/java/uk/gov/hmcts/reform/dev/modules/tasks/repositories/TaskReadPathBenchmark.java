@@ -0,0 +1,158 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.repositories;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskTrigram;
+import uk.gov.hmcts.reform.dev.modules.tasks.specifications.TaskSpecifications;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One GET /api/tasks page read two ways against in-memory H2: loading managed Task entities in a read-write
+ * transaction and mapping them with ResponseDTO.fromTask (the old path), versus TaskRepositoryCustomImpl.findPage
+ * in a read-only session. Both issue the same row query plus COUNT. Run with -prof gc to compare allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskReadPathBenchmark {
+
+    private static final int ROWS = 5_000;
+
+    @Param({"100", "500", "1000"})
+    private int pageSize;
+
+    private SessionFactory sessionFactory;
+    private Session readWriteSession;
+    private Session readOnlySession;
+    private TaskRepositoryCustomImpl repository;
+    private Specification<Task> spec;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(Task.class)
+            .addAnnotatedClass(TaskTrigram.class)
+            .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:jmh-read-path;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+            .setProperty("hibernate.cache.use_second_level_cache", "false")
+            .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> session.createNativeMutationQuery(
+            "INSERT INTO tasks (id, title, description, status, due_date, created_at, updated_at, version) "
+                + "SELECT x, 'Task ' || x, 'Description for task ' || x, 'PENDING', "
+                + "DATEADD('MINUTE', x, TIMESTAMP '2026-01-01 09:00:00'), "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 FROM SYSTEM_RANGE(1, " + ROWS + ")"
+        ).executeUpdate());
+
+        readWriteSession = sessionFactory.openSession();
+
+        // What @Transactional(readOnly = true) does to the Hibernate session
+        readOnlySession = sessionFactory.openSession();
+        readOnlySession.setDefaultReadOnly(true);
+        readOnlySession.setHibernateFlushMode(FlushMode.MANUAL);
+
+        repository = new TaskRepositoryCustomImpl();
+        Field entityManager = TaskRepositoryCustomImpl.class.getDeclaredField("entityManager");
+        entityManager.setAccessible(true);
+        entityManager.set(repository, readOnlySession);
+
+        spec = TaskSpecifications.withFilters(null, null, null, null);
+        pageable = PageRequest.of(0, pageSize, Sort.by("dueDate").ascending());
+    }
+
+    @TearDown
+    public void tearDown() {
+        readWriteSession.close();
+        readOnlySession.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Page<ResponseDTO> entityPage() {
+        readWriteSession.beginTransaction();
+        try {
+            CriteriaBuilder criteriaBuilder = readWriteSession.getCriteriaBuilder();
+            CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+            Root<Task> root = query.from(Task.class);
+            where(query, root, criteriaBuilder);
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+            List<Task> content = readWriteSession.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+            Page<ResponseDTO> page = PageableExecutionUtils.getPage(content, pageable, this::entityCount)
+                .map(ResponseDTO::fromTask);
+
+            // Commit flushes, dirty-checking every loaded Task against its snapshot
+            readWriteSession.getTransaction().commit();
+            return page;
+        } finally {
+            readWriteSession.clear();
+        }
+    }
+
+    @Benchmark
+    public Page<ResponseDTO> projectionPage() {
+        readOnlySession.beginTransaction();
+        try {
+            Page<ResponseDTO> page = repository.findPage(Task.class, spec, pageable);
+            readOnlySession.getTransaction().commit();
+            return page;
+        } finally {
+            readOnlySession.clear();
+        }
+    }
+
+    private long entityCount() {
+        CriteriaBuilder criteriaBuilder = readWriteSession.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        where(query, root, criteriaBuilder);
+        query.select(criteriaBuilder.count(root));
+        return readWriteSession.createQuery(query).getSingleResult();
+    }
+
+    private void where(CriteriaQuery<?> query, Root<Task> root, CriteriaBuilder criteriaBuilder) {
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
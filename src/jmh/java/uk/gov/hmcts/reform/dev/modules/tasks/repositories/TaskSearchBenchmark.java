@@ -0,0 +1,158 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.repositories;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskTrigram;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskWithArchive;
+import uk.gov.hmcts.reform.dev.modules.tasks.search.Trigrams;
+import uk.gov.hmcts.reform.dev.modules.tasks.specifications.TaskSpecifications;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A first page of GET /api/tasks?search= against in-memory H2 at 100k and 1M tasks, through the trigram index
+ * (indexedSearch) and through the plain LIKE scan that includeArchived reads take (likeScan).
+ * One task in RARE_EVERY is titled "Appeal", the rest "Hearing", so "appeal" shows how a selective term scales and
+ * "hearing" the worst case, where every posting list read by the subquery is as long as the table.
+ * The postings are written with set-based INSERTs, so setting up the 1M trials needs a few GB of heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class TaskSearchBenchmark {
+
+    private static final int RARE_EVERY = 10_000;
+    private static final String COMMON_TITLE = "Hearing";
+    private static final String RARE_TITLE = "Appeal";
+    private static final String COLUMNS = "id, title, description, status, due_date, created_at, updated_at, version";
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    @Param({"appeal", "hearing"})
+    private String term;
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private TaskRepositoryCustomImpl repository;
+    private Specification<Task> search;
+    private Specification<TaskWithArchive> searchWithArchive;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // A database per trial, so the view below never meets Hibernate's schema export
+        sessionFactory = sessionFactory("jmh-search-" + rows + "-" + term);
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("CREATE INDEX idx_tasks_due_date ON tasks (due_date)").executeUpdate();
+            session.createNativeMutationQuery(
+                "INSERT INTO tasks (" + COLUMNS + ") "
+                    + "SELECT x, CASE WHEN MOD(x, " + RARE_EVERY + ") = 0 THEN '" + RARE_TITLE + "' "
+                    + "ELSE '" + COMMON_TITLE + "' END, NULL, 'PENDING', "
+                    + "DATEADD('MINUTE', x, TIMESTAMP '2025-01-01 09:00:00'), "
+                    + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 FROM SYSTEM_RANGE(1, " + rows + ")").executeUpdate();
+            // What TaskSearchIndex would post for each title, one INSERT per trigram
+            for (String trigram : Trigrams.of(COMMON_TITLE)) {
+                session.createNativeMutationQuery(postings(trigram, "<>")).executeUpdate();
+            }
+            for (String trigram : Trigrams.of(RARE_TITLE)) {
+                session.createNativeMutationQuery(postings(trigram, "=")).executeUpdate();
+            }
+
+            // An empty archive, so includeArchived reads the same tasks without the index
+            session.createNativeMutationQuery("DROP TABLE tasks_with_archive").executeUpdate();
+            session.createNativeMutationQuery(
+                "CREATE TABLE tasks_archive (id BIGINT PRIMARY KEY, title VARCHAR(200) NOT NULL, "
+                    + "description VARCHAR(1000), status VARCHAR(20) NOT NULL, due_date TIMESTAMP NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, version BIGINT NOT NULL)")
+                .executeUpdate();
+            session.createNativeMutationQuery(
+                "CREATE VIEW tasks_with_archive AS SELECT " + COLUMNS + " FROM tasks "
+                    + "UNION ALL SELECT " + COLUMNS + " FROM tasks_archive").executeUpdate();
+        });
+
+        session = sessionFactory.openSession();
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+        repository = new TaskRepositoryCustomImpl();
+        Field entityManager = TaskRepositoryCustomImpl.class.getDeclaredField("entityManager");
+        entityManager.setAccessible(true);
+        entityManager.set(repository, session);
+
+        search = TaskSpecifications.withFilters(null, term, null, null);
+        searchWithArchive = TaskSpecifications.withFilters(null, term, null, null);
+        pageable = PageRequest.of(0, 20, Sort.by("dueDate").ascending());
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.close();
+        sessionFactory.close();
+    }
+
+    // Slices, so the COUNT of a page (linear in the matches whatever the index does) is left out
+    @Benchmark
+    public Slice<ResponseDTO> indexedSearch() {
+        return inTransaction(() -> repository.findSlice(Task.class, search, pageable));
+    }
+
+    @Benchmark
+    public Slice<ResponseDTO> likeScan() {
+        return inTransaction(() -> repository.findSlice(TaskWithArchive.class, searchWithArchive, pageable));
+    }
+
+    private String postings(String trigram, String rareComparison) {
+        return "INSERT INTO task_trigrams (trigram, task_id) SELECT '" + trigram + "', x FROM SYSTEM_RANGE(1, " + rows
+            + ") WHERE MOD(x, " + RARE_EVERY + ") " + rareComparison + " 0";
+    }
+
+    private static SessionFactory sessionFactory(String database) {
+        return new Configuration()
+            .addAnnotatedClass(Task.class)
+            .addAnnotatedClass(TaskTrigram.class)
+            .addAnnotatedClass(TaskWithArchive.class)
+            .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:" + database + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .setProperty("hibernate.cache.use_second_level_cache", "false")
+            .buildSessionFactory();
+    }
+
+    private <T> T inTransaction(Supplier<T> query) {
+        session.beginTransaction();
+        try {
+            T result = query.get();
+            session.getTransaction().commit();
+            return result;
+        } finally {
+            session.clear();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.services;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.CreationDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the entity for a create request that has already passed @ValidDateTime, so its dueDate is parsed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+
+    private CreationDTO dto;
+
+    @Setup
+    public void setUp() {
+        dto = new CreationDTO("Title", null, String.format("2026-%02d-15T10:30:00", 3));  // Not a constant
+        dto.parsedDateTime();  // As the validator leaves it
+    }
+
+    @Benchmark
+    public Task newTask() {
+        return TaskService.newTask(dto);
+    }
+}
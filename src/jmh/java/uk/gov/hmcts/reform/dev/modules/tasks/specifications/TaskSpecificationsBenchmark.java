@@ -0,0 +1,83 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.specifications;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskTrigram;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Predicate construction for GET /api/tasks: building the criteria tree from withFilters, not running it.
+ * Uses a real Hibernate CriteriaBuilder over an empty in-memory H2 database; no SQL is executed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskSpecificationsBenchmark {
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+    private LocalDateTime dueDateFrom;
+    private LocalDateTime dueDateTo;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(Task.class)
+            .addAnnotatedClass(TaskTrigram.class)
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:jmh;MODE=PostgreSQL")
+            .setProperty("hibernate.hbm2ddl.auto", "none")
+            .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+        dueDateFrom = LocalDateTime.of(2026, 1, 1, 0, 0);
+        dueDateTo = LocalDateTime.of(2026, 12, 31, 23, 59);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate noFilters() {
+        return build(null, null, null, null);
+    }
+
+    @Benchmark
+    public Predicate statusAndDateRange() {
+        return build(TaskStatus.PENDING, null, dueDateFrom, dueDateTo);
+    }
+
+    @Benchmark
+    public Predicate allFiltersWithSearch() {
+        // Long enough to take the trigram subquery path
+        return build(TaskStatus.PENDING, "hearing", dueDateFrom, dueDateTo);
+    }
+
+    private Predicate build(TaskStatus status, String search, LocalDateTime from, LocalDateTime to) {
+        CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        return TaskSpecifications.<Task>withFilters(status, search, from, to).toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load for A/B comparisons between two configurations of the application: each of a fixed
+ * number of clients sends its next GET /api/tasks or POST /api/tasks as soon as the previous one completes.
+ * Throughput at saturation is the figure of merit; for tail latency under a fixed arrival rate use HttpLoadTest.
+ */
+final class ClosedLoopLoad {
+
+    private static final String LIST = "GET /api/tasks";
+    private static final String CREATE = "POST /api/tasks";
+
+    private ClosedLoopLoad() {
+    }
+
+    record EndpointResult(
+        String endpoint,
+        long requests,
+        long errors,
+        double throughputPerSecond,
+        long p50Micros,
+        long p99Micros,
+        long maxMicros
+    ) {
+    }
+
+    /**
+     * Warm up, then measure.
+     * @param tasksUri Base URI of the task API
+     * @param concurrency Number of concurrent clients
+     * @param writeRatio Fraction of requests that are POSTs
+     */
+    static List<EndpointResult> measure(
+        URI tasksUri,
+        int concurrency,
+        double writeRatio,
+        Duration warmup,
+        Duration duration
+    ) throws InterruptedException {
+        drive(tasksUri, concurrency, writeRatio, warmup);
+        Map<String, LatencySamples> samples = drive(tasksUri, concurrency, writeRatio, duration);
+
+        double seconds = duration.toNanos() / 1e9;
+        List<EndpointResult> results = new ArrayList<>();
+        samples.forEach((endpoint, merged) -> results.add(new EndpointResult(
+            endpoint,
+            merged.count(),
+            merged.errors(),
+            merged.count() / seconds,
+            merged.percentile(50),
+            merged.percentile(99),
+            merged.percentile(100)
+        )));
+        return results;
+    }
+
+    static double totalThroughput(List<EndpointResult> results) {
+        return results.stream().mapToDouble(EndpointResult::throughputPerSecond).sum();
+    }
+
+    static void printTable(Map<String, List<EndpointResult>> resultsByRun) {
+        System.out.printf("%n%-12s %-16s %10s %8s %10s %10s %10s%n",
+                          "run", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms");
+        resultsByRun.forEach((run, results) -> {
+            for (EndpointResult endpoint : results) {
+                System.out.printf(Locale.ROOT, "%-12s %-16s %10d %8d %10.1f %10.2f %10.2f%n",
+                                  run, endpoint.endpoint(), endpoint.requests(), endpoint.errors(),
+                                  endpoint.throughputPerSecond(), endpoint.p50Micros() / 1000.0,
+                                  endpoint.p99Micros() / 1000.0);
+            }
+        });
+    }
+
+    static void writeReport(String fileName, Object report) throws IOException {
+        Path reportFile = Path.of(System.getProperty("loadtest.report-dir", "build/reports/benchmarks"))
+            .resolve(fileName);
+        Files.createDirectories(reportFile.getParent());
+        new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+            .writerWithDefaultPrettyPrinter()
+            .writeValue(reportFile.toFile(), report);
+        System.out.println("Report written to " + reportFile.toAbsolutePath());
+    }
+
+    // Client workers run on virtual threads so the client is never the bottleneck
+    private static Map<String, LatencySamples> drive(URI tasksUri, int concurrency, double writeRatio, Duration length)
+        throws InterruptedException {
+        long deadline = System.nanoTime() + length.toNanos();
+        AtomicLong sequence = new AtomicLong();
+        List<Future<Map<String, LatencySamples>>> futures = new ArrayList<>();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                 .version(HttpClient.Version.HTTP_1_1)
+                 .executor(workers)
+                 .build()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> worker(client, tasksUri, writeRatio, deadline, sequence)));
+            }
+
+            Map<String, LatencySamples> merged = new LinkedHashMap<>();
+            merged.put(LIST, new LatencySamples());
+            merged.put(CREATE, new LatencySamples());
+            for (Future<Map<String, LatencySamples>> future : futures) {
+                try {
+                    future.get().forEach((endpoint, samples) -> merged.get(endpoint).addAll(samples));
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Load worker failed", e.getCause());
+                }
+            }
+            return merged;
+        }
+    }
+
+    private static Map<String, LatencySamples> worker(
+        HttpClient client,
+        URI tasksUri,
+        double writeRatio,
+        long deadline,
+        AtomicLong sequence
+    ) throws InterruptedException {
+        LatencySamples list = new LatencySamples();
+        LatencySamples create = new LatencySamples();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            boolean write = random.nextDouble() < writeRatio;
+            HttpRequest request = write
+                ? createRequest(tasksUri, sequence.incrementAndGet())
+                : HttpRequest.newBuilder(URI.create(tasksUri + "?page=" + random.nextInt(3) + "&size=20")).build();
+            LatencySamples samples = write ? create : list;
+
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) {
+                    samples.recordError();
+                } else {
+                    samples.record((System.nanoTime() - start) / 1_000);
+                }
+            } catch (IOException e) {
+                samples.recordError();
+            }
+        }
+        return Map.of(LIST, list, CREATE, create);
+    }
+
+    private static HttpRequest createRequest(URI tasksUri, long n) {
+        String body = """
+            {"title": "Load test task %d", "description": "Created by a closed-loop benchmark", \
+            "dueDate": "2030-01-01T09:00:00"}""".formatted(n);
+        return HttpRequest.newBuilder(tasksUri)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+}
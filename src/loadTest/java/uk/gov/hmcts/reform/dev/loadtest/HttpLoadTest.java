@@ -0,0 +1,376 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load test: boots the application on in-memory H2, seeds it through the batch endpoint,
+ * then sends a weighted mix of TaskController calls at a fixed arrival rate.
+ *
+ * <p>Requests are started on schedule whether or not earlier ones have completed, and each latency is
+ * measured from the request's scheduled start rather than from when it was actually sent. A stall in the
+ * server (or in this client) therefore shows up in the tail of every request it delayed instead of quietly
+ * lowering the send rate - the coordinated omission a closed-loop tester suffers from. Raw service time
+ * (from actual send) is reported alongside for comparison; a large gap between the two means requests queued.
+ *
+ * <p>Run with ./gradlew loadTest; settings are read from loadtest.* system properties.
+ */
+public final class HttpLoadTest {
+
+    private static final String[] WORDS = {
+        "hearing", "bundle", "review", "witness", "statement", "appeal", "evidence", "judgment", "order", "listing"
+    };
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+    private static final int SEED_BATCH_SIZE = 1000;  // The batch create limit
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private final URI tasksUri;
+    private final long[] seededIds;
+    // Tasks created during the run; deletes consume these so gets and updates never target a deleted task
+    private final Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+
+    private HttpLoadTest(HttpClient client, URI tasksUri, long[] seededIds) {
+        this.client = client;
+        this.tasksUri = tasksUri;
+        this.seededIds = seededIds;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+    }
+
+    enum Operation {
+        CREATE("POST /api/tasks"),
+        GET("GET /api/tasks/{id}"),
+        LIST("GET /api/tasks"),
+        SEARCH("GET /api/tasks?search="),
+        UPDATE("PUT /api/tasks/{id}"),
+        DELETE("DELETE /api/tasks/{id}");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+    }
+
+    record Settings(
+        int rows,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Duration dbLatency,
+        Map<Operation, Integer> mix,
+        List<String> profiles
+    ) {
+        static Settings fromSystemProperties() {
+            return new Settings(
+                Integer.getInteger("loadtest.rows", 10_000),
+                Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+                duration("loadtest.warmup", "10s"),
+                duration("loadtest.duration", "60s"),
+                duration(LoadTestConfiguration.DB_LATENCY, "0ms"),
+                parseMix(System.getProperty("loadtest.mix", "create=10,get=40,list=20,search=10,update=15,delete=5")),
+                Arrays.stream(System.getProperty("loadtest.profiles", "").split(","))
+                    .map(String::trim)
+                    .filter(profile -> !profile.isEmpty())
+                    .toList()
+            );
+        }
+
+        private static Duration duration(String property, String defaultValue) {
+            return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+        }
+
+        private static Map<Operation, Integer> parseMix(String mix) {
+            Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+            for (String entry : mix.split(",")) {
+                String[] parts = entry.trim().split("=");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("loadtest.mix entries must be operation=weight: " + entry);
+                }
+                weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1]));
+            }
+            return weights;
+        }
+    }
+
+    /**
+     * Latencies for one operation, in microseconds. Concurrent histograms because every request
+     * records from its own virtual thread.
+     */
+    private static final class EndpointStats {
+        private final Histogram responseTime = new ConcurrentHistogram(3);
+        private final Histogram serviceTime = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        if (settings.rows() < 1) {
+            throw new IllegalArgumentException("loadtest.rows must be at least 1 so gets and updates have targets");
+        }
+        Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+
+        try (ConfigurableApplicationContext context = LoadTestApplication.start(
+                 "httpload", settings.dbLatency(), settings.profiles(), List.of());
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                 .version(HttpClient.Version.HTTP_1_1)
+                 .executor(executor)
+                 .connectTimeout(Duration.ofSeconds(5))
+                 .build()) {
+            URI tasksUri = LoadTestApplication.tasksUri(context);
+
+            System.out.printf("Seeding %d tasks%n", settings.rows());
+            HttpLoadTest loadTest = new HttpLoadTest(client, tasksUri, seed(client, tasksUri, settings.rows()));
+
+            System.out.printf("Running at %.0f req/s: %s warm-up, %s measured%n",
+                              settings.rate(), settings.warmup(), settings.duration());
+            loadTest.run(settings);
+            loadTest.report(settings, reportDir);
+        }
+    }
+
+    private static long[] seed(HttpClient client, URI tasksUri, int rows) throws IOException, InterruptedException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] ids = new long[rows];
+        int seeded = 0;
+
+        while (seeded < rows) {
+            int batchSize = Math.min(SEED_BATCH_SIZE, rows - seeded);
+            List<Map<String, String>> batch = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                batch.add(taskBody(random, seeded + i));
+            }
+
+            HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(tasksUri + "/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(batch)))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString()
+            );
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException(
+                    "Seeding failed with " + response.statusCode() + ": " + response.body());
+            }
+            for (JsonNode task : objectMapper.readTree(response.body())) {
+                ids[seeded++] = task.get("id").asLong();
+            }
+        }
+        return ids;
+    }
+
+    private void run(Settings settings) {
+        Operation[] schedule = weightedSchedule(settings.mix());
+        long intervalNanos = (long) (1_000_000_000L / settings.rate());
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+
+        // Closing the executor waits for requests still in flight when the schedule ends
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (long i = 0; ; i++) {
+                long intendedStart = start + i * intervalNanos;
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Operation operation = schedule[random.nextInt(schedule.length)];
+                boolean measured = intendedStart >= measureFrom;
+                requests.execute(() -> execute(operation, intendedStart, measured));
+            }
+        }
+    }
+
+    private void execute(Operation operation, long intendedStart, boolean measured) {
+        Long deleteId = null;
+        if (operation == Operation.DELETE) {
+            deleteId = createdIds.poll();
+            if (deleteId == null) {
+                operation = Operation.CREATE;  // Nothing of ours to delete yet
+            }
+        }
+
+        EndpointStats endpoint = stats.get(operation);
+        boolean failed;
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request(operation, deleteId),
+                                                        HttpResponse.BodyHandlers.ofString());
+            failed = response.statusCode() >= 400;
+            if (operation == Operation.CREATE && !failed) {
+                createdIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+            }
+        } catch (IOException e) {
+            failed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long completed = System.nanoTime();
+
+        if (measured) {
+            endpoint.responseTime.recordValue((completed - intendedStart) / 1_000);
+            endpoint.serviceTime.recordValue((completed - sent) / 1_000);
+            if (failed) {
+                endpoint.errors.increment();
+            }
+        }
+    }
+
+    private HttpRequest request(Operation operation, Long deleteId) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case CREATE -> json(HttpRequest.newBuilder(tasksUri), "POST", taskBody(random, random.nextInt()));
+            case GET -> HttpRequest.newBuilder(byId(randomSeededId(random))).build();
+            case LIST -> HttpRequest.newBuilder(URI.create(
+                tasksUri + "?page=" + random.nextInt(5) + "&size=20&status=" + STATUSES[random.nextInt(3)]
+            )).build();
+            case SEARCH -> HttpRequest.newBuilder(URI.create(
+                tasksUri + "?size=20&search=" + WORDS[random.nextInt(WORDS.length)]
+            )).build();
+            case UPDATE -> {
+                Map<String, String> body = taskBody(random, random.nextInt());
+                body.put("status", STATUSES[random.nextInt(3)]);
+                yield json(HttpRequest.newBuilder(byId(randomSeededId(random))), "PUT", body);
+            }
+            case DELETE -> HttpRequest.newBuilder(byId(deleteId)).DELETE().build();
+        };
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, String method, Object body) throws IOException {
+        return builder
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+            .build();
+    }
+
+    private URI byId(long id) {
+        return URI.create(tasksUri + "/" + id);
+    }
+
+    private long randomSeededId(ThreadLocalRandom random) {
+        return seededIds[random.nextInt(seededIds.length)];
+    }
+
+    private static Map<String, String> taskBody(ThreadLocalRandom random, int n) {
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("title", "Task " + Math.abs(n) + " " + WORDS[random.nextInt(WORDS.length)]);
+        body.put("description", "Check the " + WORDS[random.nextInt(WORDS.length)] + " and the "
+            + WORDS[random.nextInt(WORDS.length)] + " before the hearing");
+        body.put("dueDate", String.format("2030-%02d-%02dT09:00:00", random.nextInt(1, 13), random.nextInt(1, 29)));
+        return body;
+    }
+
+    // One slot per unit of weight, so picking a uniformly random slot honours the mix
+    private static Operation[] weightedSchedule(Map<Operation, Integer> mix) {
+        List<Operation> slots = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(operation);
+            }
+        });
+        if (slots.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix must give at least one operation a positive weight");
+        }
+        return slots.toArray(Operation[]::new);
+    }
+
+    private void report(Settings settings, Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        double seconds = settings.duration().toNanos() / 1e9;
+
+        System.out.printf("%n%-24s %9s %7s %9s %9s %9s %9s %9s %12s%n",
+                          "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms",
+                          "svc p99 ms");
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            EndpointStats endpoint = stats.get(operation);
+            Histogram response = endpoint.responseTime;
+            if (response.getTotalCount() == 0) {
+                continue;
+            }
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("requests", response.getTotalCount());
+            result.put("errors", endpoint.errors.sum());
+            result.put("throughputPerSecond", response.getTotalCount() / seconds);
+            result.put("responseTimeMillis", percentiles(response));
+            result.put("serviceTimeMillis", percentiles(endpoint.serviceTime));
+            endpoints.put(operation.label, result);
+
+            System.out.printf(Locale.ROOT, "%-24s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %12.2f%n",
+                              operation.label, response.getTotalCount(), endpoint.errors.sum(),
+                              response.getTotalCount() / seconds, millis(response, 50), millis(response, 99),
+                              millis(response, 99.9), response.getMaxValue() / 1000.0,
+                              millis(endpoint.serviceTime, 99));
+
+            // Full distribution in HdrHistogram's .hgrm format, values in milliseconds
+            Path hgrm = reportDir.resolve("http-load-" + operation.name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm))) {
+                response.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("endpoints", endpoints);
+        Path reportFile = reportDir.resolve("http-load.json");
+        new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+            .writerWithDefaultPrettyPrinter()
+            .writeValue(reportFile.toFile(), report);
+        System.out.println("Report written to " + reportFile.toAbsolutePath());
+    }
+
+    private static Map<String, Double> percentiles(Histogram histogram) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50", millis(histogram, 50));
+        percentiles.put("p99", millis(histogram, 99));
+        percentiles.put("p999", millis(histogram, 99.9));
+        percentiles.put("max", histogram.getMaxValue() / 1000.0);
+        return percentiles;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,155 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures POST /api/tasks/import end to end: rows per second for one large NDJSON or CSV upload into a fresh
+ * in-memory H2 database, generated on the fly so the client holds no more than one chunk of the file.
+ * The upload is repeated for loadtest.rounds rounds and the best one kept. Exits non-zero when its rate is below
+ * loadtest.min-rows-per-second. That is unset by default, as no baseline has been measured; the run just reports.
+ *
+ * <p>Run with ./gradlew importBenchmark; settings are read from loadtest.* system properties.
+ */
+public final class ImportThroughputBenchmark {
+
+    private static final DateTimeFormatter DUE_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final LocalDateTime FIRST_DUE_DATE = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final int ROWS_PER_CHUNK = 1000;
+
+    private ImportThroughputBenchmark() {
+    }
+
+    record Settings(
+        int rows,
+        int rounds,
+        String format,
+        int batchSize,
+        double minRowsPerSecond
+    ) {
+        static Settings fromSystemProperties() {
+            return new Settings(
+                Integer.getInteger("loadtest.rows", 500_000),
+                Integer.getInteger("loadtest.rounds", 3),
+                System.getProperty("loadtest.format", "NDJSON").toUpperCase(Locale.ROOT),
+                Integer.getInteger("loadtest.import-batch-size", 1000),
+                Double.parseDouble(System.getProperty("loadtest.min-rows-per-second", "0"))
+            );
+        }
+    }
+
+    record RoundResult(int round, long imported, long rejected, Duration elapsed, double rowsPerSecond) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        HttpClient client = HttpClient.newHttpClient();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        List<RoundResult> rounds = new ArrayList<>();
+        for (int round = 1; round <= settings.rounds(); round++) {
+            // A fresh database per round, so every upload inserts into the same size of table
+            try (ConfigurableApplicationContext context = LoadTestApplication.start(
+                "import-" + round, Duration.ZERO, List.of(),
+                List.of("--tasks.import.batch-size=" + settings.batchSize()))) {
+                URI importUri =
+                    URI.create(LoadTestApplication.tasksUri(context) + "/import?format=" + settings.format());
+                HttpRequest request = HttpRequest.newBuilder(importUri)
+                    .header("Content-Type", "CSV".equals(settings.format()) ? "text/csv" : "application/x-ndjson")
+                    .timeout(Duration.ofMinutes(30))
+                    .POST(HttpRequest.BodyPublishers.ofInputStream(() -> body(settings)))
+                    .build();
+
+                long start = System.nanoTime();
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("Import failed with " + response.statusCode() + ": "
+                                                        + response.body());
+                }
+
+                JsonNode result = objectMapper.readTree(response.body());
+                long imported = result.get("imported").asLong();
+                RoundResult roundResult = new RoundResult(
+                    round, imported, result.get("rejected").asLong(), elapsed,
+                    imported / (elapsed.toNanos() / 1e9)
+                );
+                rounds.add(roundResult);
+                System.out.printf(Locale.ROOT, "Round %d/%d: %,d rows in %.2fs, %,.0f rows/s%n", round,
+                                  settings.rounds(), imported, elapsed.toNanos() / 1e9, roundResult.rowsPerSecond());
+            }
+        }
+
+        double best = rounds.stream().mapToDouble(RoundResult::rowsPerSecond).max().orElse(0);
+        System.out.printf(Locale.ROOT, "%nBest import rate: %,.0f rows/s%n", best);
+        if (settings.minRowsPerSecond() > 0) {
+            System.out.printf(Locale.ROOT, "Minimum: %,.0f rows/s%n", settings.minRowsPerSecond());
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("rounds", rounds);
+        report.put("bestRowsPerSecond", best);
+        ClosedLoopLoad.writeReport("import-throughput.json", report);
+
+        if (best < settings.minRowsPerSecond()) {
+            System.exit(1);
+        }
+    }
+
+    // The upload as a chain of ROWS_PER_CHUNK-row chunks, each rendered only when the client reaches it
+    private static InputStream body(Settings settings) {
+        boolean csv = "CSV".equals(settings.format());
+        Enumeration<InputStream> chunks = new Enumeration<>() {
+            private int next = csv ? -1 : 0;  // -1 is the CSV header
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < settings.rows();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                StringBuilder chunk = new StringBuilder();
+                if (next < 0) {
+                    chunk.append("title,description,dueDate\r\n");
+                    next = 0;
+                }
+                int end = Math.min(next + ROWS_PER_CHUNK, settings.rows());
+                for (int row = next; row < end; row++) {
+                    String dueDate = DUE_DATE.format(FIRST_DUE_DATE.plusMinutes(row));
+                    if (csv) {
+                        chunk.append("Imported task ").append(row).append(",Load test import,")
+                            .append(dueDate).append("\r\n");
+                    } else {
+                        chunk.append("{\"title\":\"Imported task ").append(row)
+                            .append("\",\"description\":\"Load test import\",\"dueDate\":\"")
+                            .append(dueDate).append("\"}\n");
+                    }
+                }
+                next = end;
+                return new ByteArrayInputStream(chunk.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        return new SequenceInputStream(chunks);
+    }
+}
@@ -0,0 +1,52 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Append-only list of latencies in microseconds. Each load worker owns its own instance, so recording
+ * needs no synchronisation; instances are merged once the run has finished.
+ */
+class LatencySamples {
+
+    private long[] values = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long micros) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = micros;
+    }
+
+    void recordError() {
+        errors++;
+    }
+
+    int count() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    void addAll(LatencySamples other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.values[i]);
+        }
+        errors += other.errors;
+    }
+
+    /**
+     * Percentile by nearest rank. Sorts in place, so call only after all samples are merged.
+     */
+    long percentile(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        Arrays.sort(values, 0, size);
+        int rank = (int) Math.ceil(percentile / 100.0 * size);
+        return values[Math.max(0, Math.min(size, rank) - 1)];
+    }
+}
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.Application;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application for a load harness: random port, a private in-memory H2 database,
+ * quiet logging, and (optionally) SlowDataSource latency on every statement.
+ */
+final class LoadTestApplication {
+
+    private LoadTestApplication() {
+    }
+
+    /**
+     * Start the application. Extra arguments are passed as command-line arguments, so they outrank
+     * application.yaml and any profile file.
+     * @param databaseName Name of the in-memory database, unique per run
+     * @param dbLatency Delay added to every JDBC statement, or zero for none
+     * @param profiles Spring profiles to activate
+     * @param extraArgs Further --property=value arguments
+     */
+    static ConfigurableApplicationContext start(
+        String databaseName,
+        Duration dbLatency,
+        List<String> profiles,
+        List<String> extraArgs
+    ) {
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+            "--" + LoadTestConfiguration.DB_LATENCY + "=" + dbLatency.toMillis() + "ms",
+            "--spring.h2.console.enabled=false",
+            "--logging.level.uk.gov.hmcts.reform.dev=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        ));
+        args.addAll(extraArgs);
+
+        return new SpringApplicationBuilder(Application.class, LoadTestConfiguration.class)
+            .profiles(profiles.toArray(String[]::new))
+            .run(args.toArray(String[]::new));
+    }
+
+    static URI tasksUri(ConfigurableApplicationContext context) {
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        return URI.create("http://localhost:" + port + "/api/tasks");
+    }
+}
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+
+/**
+ * Extra beans for an application context booted by a load harness.
+ * Wraps the pooled DataSource in a SlowDataSource when loadtest.db-latency is non-zero.
+ */
+@Configuration(proxyBeanMethods = false)
+class LoadTestConfiguration {
+
+    static final String DB_LATENCY = "loadtest.db-latency";
+
+    @Bean
+    static BeanPostProcessor slowDataSourcePostProcessor(Environment environment) {
+        Duration latency = DurationStyle.detectAndParse(environment.getProperty(DB_LATENCY, "0ms"));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !latency.isZero()) {
+                    return new SlowDataSource(dataSource, latency);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.loadtest.ClosedLoopLoad.EndpointResult;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures what the metrics surface costs: saturating closed-loop throughput with Micrometer meters,
+ * @Timed service timers and Hibernate statistics switched off, against the same with them on.
+ * Configurations alternate for several rounds and each keeps its best round, which damps warm-up and
+ * ordering effects. Exits non-zero when the overhead exceeds loadtest.max-overhead-percent, which is unset by
+ * default as no baseline has been measured; the run then just reports.
+ *
+ * <p>Run with ./gradlew metricsOverheadBenchmark; settings are read from loadtest.* system properties.
+ */
+public final class MetricsOverheadBenchmark {
+
+    // Everything application.yaml turns on for /prometheus, turned back off
+    private static final List<String> METRICS_OFF = List.of(
+        "--management.metrics.enable.all=false",
+        "--management.observations.annotations.enabled=false",
+        "--spring.jpa.properties.hibernate.generate_statistics=false"
+    );
+
+    private MetricsOverheadBenchmark() {
+    }
+
+    record Settings(
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int rounds,
+        double writeRatio,
+        double maxOverheadPercent
+    ) {
+        static Settings fromSystemProperties() {
+            return new Settings(
+                Integer.getInteger("loadtest.concurrency", 64),
+                duration("loadtest.warmup", "10s"),
+                duration("loadtest.duration", "20s"),
+                Integer.getInteger("loadtest.rounds", 3),
+                Double.parseDouble(System.getProperty("loadtest.write-ratio", "0.2")),
+                Double.parseDouble(System.getProperty("loadtest.max-overhead-percent", "Infinity"))
+            );
+        }
+
+        private static Duration duration(String property, String defaultValue) {
+            return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+
+        Map<String, List<EndpointResult>> best = new LinkedHashMap<>();
+        for (int round = 1; round <= settings.rounds(); round++) {
+            for (boolean metrics : new boolean[] {false, true}) {
+                String run = metrics ? "metrics-on" : "metrics-off";
+                System.out.printf("Round %d/%d: %s%n", round, settings.rounds(), run);
+                List<EndpointResult> results = run(run + "-" + round, metrics ? List.of() : METRICS_OFF, settings);
+                List<EndpointResult> previous = best.get(run);
+                if (previous == null
+                    || ClosedLoopLoad.totalThroughput(results) > ClosedLoopLoad.totalThroughput(previous)) {
+                    best.put(run, results);
+                }
+            }
+        }
+        ClosedLoopLoad.printTable(best);
+
+        double baseline = ClosedLoopLoad.totalThroughput(best.get("metrics-off"));
+        double instrumented = ClosedLoopLoad.totalThroughput(best.get("metrics-on"));
+        double overheadPercent = (baseline - instrumented) / baseline * 100;
+        System.out.printf(Locale.ROOT, "%nThroughput overhead of metrics: %.2f%%%n", overheadPercent);
+        if (Double.isFinite(settings.maxOverheadPercent())) {
+            System.out.printf(Locale.ROOT, "Limit: %.2f%%%n", settings.maxOverheadPercent());
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("results", best);
+        report.put("overheadPercent", overheadPercent);
+        ClosedLoopLoad.writeReport("metrics-overhead.json", report);
+
+        if (overheadPercent > settings.maxOverheadPercent()) {
+            System.exit(1);
+        }
+    }
+
+    private static List<EndpointResult> run(String database, List<String> args, Settings settings)
+        throws InterruptedException {
+        try (ConfigurableApplicationContext context = LoadTestApplication.start(
+            database, Duration.ZERO, List.of(), args)) {
+            return ClosedLoopLoad.measure(LoadTestApplication.tasksUri(context), settings.concurrency(),
+                                          settings.writeRatio(), settings.warmup(), settings.duration());
+        }
+    }
+}
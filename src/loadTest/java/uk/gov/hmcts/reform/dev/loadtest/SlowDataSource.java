@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+
+/**
+ * Adds a fixed delay to every statement execution, standing in for the network round-trip to a remote
+ * database. In-memory H2 answers in microseconds, which hides exactly the blocking behaviour the load
+ * harnesses are meant to measure. The delay is a plain sleep taken outside any driver lock, so it parks
+ * a virtual thread rather than pinning its carrier.
+ */
+class SlowDataSource extends DelegatingDataSource {
+
+    private final Duration latency;
+
+    SlowDataSource(DataSource target, Duration latency) {
+        super(target);
+        this.latency = latency;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                return result instanceof Statement statement ? wrapStatement(statement) : result;
+            }
+        );
+    }
+
+    private Statement wrapStatement(Statement statement) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class
+            : Statement.class;
+        return (Statement) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    Thread.sleep(latency);
+                }
+                return invoke(statement, method, args);
+            }
+        );
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
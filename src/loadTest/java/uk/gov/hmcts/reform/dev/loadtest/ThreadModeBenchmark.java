@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.loadtest.ClosedLoopLoad.EndpointResult;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Boots the application twice - once on Tomcat's platform-thread pool and once with the virtual-threads
+ * profile - and drives each with the same closed-loop mix of GET /api/tasks and POST /api/tasks.
+ * Both runs share the connection pool size and simulated database latency, so the difference is the
+ * request threading model. Prints throughput and p50/p99 per endpoint and writes them to thread-modes.json.
+ *
+ * <p>Run with ./gradlew threadModeBenchmark; settings are read from loadtest.* system properties.
+ */
+public final class ThreadModeBenchmark {
+
+    private ThreadModeBenchmark() {
+    }
+
+    enum Mode {
+        PLATFORM, VIRTUAL
+    }
+
+    record Settings(
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Duration dbLatency,
+        int poolSize,
+        int platformThreads,
+        double writeRatio
+    ) {
+        static Settings fromSystemProperties() {
+            return new Settings(
+                Integer.getInteger("loadtest.concurrency", 400),
+                duration("loadtest.warmup", "10s"),
+                duration("loadtest.duration", "30s"),
+                duration(LoadTestConfiguration.DB_LATENCY, "10ms"),
+                Integer.getInteger("loadtest.pool-size", 20),
+                Integer.getInteger("loadtest.platform-threads", 200),
+                Double.parseDouble(System.getProperty("loadtest.write-ratio", "0.2"))
+            );
+        }
+
+        private static Duration duration(String property, String defaultValue) {
+            return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+
+        Map<String, List<EndpointResult>> results = new LinkedHashMap<>();
+        for (Mode mode : Mode.values()) {
+            results.put(mode.name(), run(mode, settings));
+        }
+        ClosedLoopLoad.printTable(results);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("results", results);
+        ClosedLoopLoad.writeReport("thread-modes.json", report);
+    }
+
+    private static List<EndpointResult> run(Mode mode, Settings settings) throws InterruptedException {
+        List<String> profiles = mode == Mode.VIRTUAL ? List.of("virtual-threads") : List.of();
+        // Passed as arguments so both modes really do get the same pool size, whatever the profile says
+        List<String> args = List.of(
+            "--spring.datasource.hikari.maximum-pool-size=" + settings.poolSize(),
+            "--server.tomcat.threads.max=" + settings.platformThreads()
+        );
+
+        try (ConfigurableApplicationContext context = LoadTestApplication.start(
+            "loadtest-" + mode.name().toLowerCase(Locale.ROOT), settings.dbLatency(), profiles, args)) {
+            System.out.printf("%s: %s warm-up, then %s at concurrency %d%n",
+                              mode, settings.warmup(), settings.duration(), settings.concurrency());
+            return ClosedLoopLoad.measure(LoadTestApplication.tasksUri(context), settings.concurrency(),
+                                          settings.writeRatio(), settings.warmup(), settings.duration());
+        }
+    }
+}
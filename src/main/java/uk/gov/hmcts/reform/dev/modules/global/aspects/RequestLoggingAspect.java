@@ -6,12 +6,19 @@ import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Aspect
 @Component
@@ -19,6 +26,32 @@ public class RequestLoggingAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(RequestLoggingAspect.class);
 
+    // Controller methods without a @RequestBody share this, so they cost one map lookup
+    private static final LoggedMethod NO_BODY = new LoggedMethod(null, -1);
+
+    private final Map<Method, LoggedMethod> methods = new ConcurrentHashMap<>();
+    private final AtomicLong windowSecond = new AtomicLong();
+    private final AtomicInteger loggedInWindow = new AtomicInteger();
+    private final double sampleRate;
+    private final int maxPerSecond;
+    private final int maxBodyLength;
+
+    /**
+     * Body logging is throttled twice: a random sample of requests, then a per-second cap across all of them.
+     * @param sampleRate Fraction of request bodies to log, from 0 (none) to 1 (all)
+     * @param maxPerSecond Most bodies logged in any one second, or 0 for no limit
+     * @param maxBodyLength Characters of each body to log before it is cut short
+     */
+    public RequestLoggingAspect(
+        @Value("${tasks.request-logging.sample-rate:1.0}") double sampleRate,
+        @Value("${tasks.request-logging.max-per-second:50}") int maxPerSecond,
+        @Value("${tasks.request-logging.max-body-length:2000}") int maxBodyLength
+    ) {
+        this.sampleRate = sampleRate;
+        this.maxPerSecond = maxPerSecond;
+        this.maxBodyLength = maxBodyLength;
+    }
+
     /**
      * Intercepts all controller methods and logs @RequestBody parameters.
      * Note: this only runs for requests that pass validation. Requests that fail
@@ -26,32 +59,88 @@ public class RequestLoggingAspect {
      */
     @Before("execution(* uk.gov.hmcts.reform.dev.modules.tasks.controllers..*(..))")
     public void logRequestBody(JoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        Object[] args = joinPoint.getArgs();
-        Parameter[] parameters = method.getParameters();
-
-        // Find and log @RequestBody parameters
-        for (int i = 0; i < parameters.length; i++) {
-            if (hasRequestBodyAnnotation(parameters[i])) {
-                String methodName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
-                logger.info("Request to {}: {}", methodName, formatRequestBody(args[i]));
+        logRequestBody(((MethodSignature) joinPoint.getSignature()).getMethod(), joinPoint.getArgs());
+    }
+
+    void logRequestBody(Method method, Object[] args) {
+        LoggedMethod loggedMethod = methods.computeIfAbsent(method, RequestLoggingAspect::resolve);
+        if (loggedMethod == NO_BODY || !logger.isInfoEnabled() || !sampled() || !withinRateLimit()) {
+            return;
+        }
+        // Formatted only if an appender actually writes the event
+        logger.info("Request to {}: {}", loggedMethod.name(),
+            new BoundedBody(args[loggedMethod.bodyIndex()], maxBodyLength));
+    }
+
+    // Reflection happens once per controller method, on its first call
+    private static LoggedMethod resolve(Method method) {
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation.annotationType() == RequestBody.class) {
+                    String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+                    return new LoggedMethod(name, i);
+                }
             }
         }
+        return NO_BODY;
     }
 
-    private boolean hasRequestBodyAnnotation(Parameter parameter) {
-        return Arrays.stream(parameter.getAnnotations())
-            .anyMatch(annotation -> annotation.annotationType().equals(RequestBody.class));
+    private boolean sampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
     }
 
-    private String formatRequestBody(Object requestBody) {
-        if (requestBody == null) {
-            return "null";
+    // Fixed one-second window; a reset racing an increment may let an extra body through, which is fine for logs
+    private boolean withinRateLimit() {
+        if (maxPerSecond <= 0) {
+            return true;
+        }
+        long second = System.currentTimeMillis() / 1000;
+        if (windowSecond.get() != second && windowSecond.getAndSet(second) != second) {
+            loggedInWindow.set(0);
         }
+        return loggedInWindow.incrementAndGet() <= maxPerSecond;
+    }
 
-        // Use toString() which Lombok @Getter classes provide a reasonable implementation for
-        // For more complex formatting, you could use Jackson's ObjectMapper here
-        return requestBody.toString();
+    private record LoggedMethod(String name, int bodyIndex) {
+    }
+
+    /**
+     * A request body whose toString() stops after maxLength characters. Collections are written
+     * element by element, so a 1000-task batch is not rendered in full only to be cut short.
+     */
+    private record BoundedBody(Object body, int maxLength) {
+
+        @Override
+        public String toString() {
+            if (body == null) {
+                return "null";
+            }
+            if (body instanceof Collection<?> collection) {
+                return formatCollection(collection);
+            }
+            // Lombok's toString() gives a reasonable rendering of the DTOs
+            String text = body.toString();
+            if (text.length() <= maxLength) {
+                return text;
+            }
+            return text.substring(0, maxLength) + "... (" + text.length() + " chars)";
+        }
+
+        private String formatCollection(Collection<?> collection) {
+            StringBuilder text = new StringBuilder("[");
+            Iterator<?> elements = collection.iterator();
+            while (elements.hasNext()) {
+                text.append(elements.next());
+                if (text.length() > maxLength) {
+                    text.setLength(maxLength);
+                    return text.append("... (").append(collection.size()).append(" items)").toString();
+                }
+                if (elements.hasNext()) {
+                    text.append(", ");
+                }
+            }
+            return text.append(']').toString();
+        }
     }
 }
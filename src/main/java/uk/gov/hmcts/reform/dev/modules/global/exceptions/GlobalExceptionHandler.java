@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.dev.modules.global.exceptions;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -11,6 +12,10 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import uk.gov.hmcts.reform.dev.modules.global.dtos.ErrorResponse;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.BatchValidationException;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.InvalidTaskRequestException;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.StaleTaskException;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.SyncTokenExpiredException;
 import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.TaskNotFoundException;
 
 import java.util.HashMap;
@@ -38,6 +43,92 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    // StaleTaskException (If-Match names an old version) → 412
+    @ExceptionHandler(StaleTaskException.class)
+    public ResponseEntity<ErrorResponse> handleStaleTask(
+        StaleTaskException ex,
+        HttpServletRequest request
+    ) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.PRECONDITION_FAILED.value(),
+            "Precondition Failed",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    // SyncTokenExpiredException (delta sync token older than the tombstone retention) → 410
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleSyncTokenExpired(
+        SyncTokenExpiredException ex,
+        HttpServletRequest request
+    ) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.GONE.value(),
+            "Gone",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.GONE).body(errorResponse);
+    }
+
+    // Another request updated the same task between our read and our write (@Version check at flush) → 409
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+        OptimisticLockingFailureException ex,
+        HttpServletRequest request
+    ) {
+        logger.warn("Concurrent update rejected at {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.CONFLICT.value(),
+            "Conflict",
+            "The task was modified by another request. Fetch it again and retry.",
+            request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    // InvalidTaskRequestException (e.g. malformed cursor) → 400
+    @ExceptionHandler(InvalidTaskRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTaskRequest(
+        InvalidTaskRequestException ex,
+        HttpServletRequest request
+    ) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            "Bad Request",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    // BatchValidationException (one or more items in POST /batch invalid) → 400
+    @ExceptionHandler(BatchValidationException.class)
+    public ResponseEntity<ErrorResponse> handleBatchValidationErrors(
+        BatchValidationException ex,
+        HttpServletRequest request
+    ) {
+        logger.warn("Batch validation failed for {} {}: {}", request.getMethod(), request.getRequestURI(),
+            ex.getValidationErrors());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            "Validation Failed",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+        errorResponse.setValidationErrors(ex.getValidationErrors());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     // Handle validation errors → 400
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(
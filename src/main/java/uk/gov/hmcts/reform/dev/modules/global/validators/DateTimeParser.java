@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev.modules.global.validators;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * The one parser for API date-times in the yyyy-MM-dd'T'HH:mm:ss layout, shared by @ValidDateTime and TaskService.
+ * Well-formed values are read digit by digit; anything else goes to the DateTimeFormatter, so results and errors
+ * are exactly the formatter's. Requests parse a dueDate once, through ParsedDateTime, for both the validator and
+ * the service.
+ */
+public final class DateTimeParser {
+
+    public static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN);
+    private static final int LENGTH = PATTERN.length() - 2;  // Less the quotes around T
+
+    private DateTimeParser() {
+    }
+
+    /**
+     * @param value Text in the yyyy-MM-dd'T'HH:mm:ss layout
+     * @return The parsed date-time
+     * @throws DateTimeParseException if the value does not match the layout
+     */
+    public static LocalDateTime parse(String value) {
+        LocalDateTime parsed = parseFixedWidth(value);
+        return parsed != null ? parsed : LocalDateTime.parse(value, FORMATTER);
+    }
+
+    /**
+     * @return The date-time, or null when the value is not a plainly valid fixed-width one. Edge cases
+     *     (year 0000, a 31st in a 30-day month, 24:00:00) are left for the formatter to reject or resolve.
+     */
+    static LocalDateTime parseFixedWidth(String value) {
+        if (value.length() != LENGTH
+            || value.charAt(4) != '-' || value.charAt(7) != '-' || value.charAt(10) != 'T'
+            || value.charAt(13) != ':' || value.charAt(16) != ':') {
+            return null;
+        }
+        int year = digits(value, 0, 4);
+        int month = digits(value, 5, 2);
+        int day = digits(value, 8, 2);
+        int hour = digits(value, 11, 2);
+        int minute = digits(value, 14, 2);
+        int second = digits(value, 17, 2);
+        if ((year | month | day | hour | minute | second) < 0
+            || year < 1 || month < 1 || month > 12 || day < 1 || hour > 23 || minute > 59 || second > 59
+            || (day > 28 && day > YearMonth.of(year, month).lengthOfMonth())) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second);
+    }
+
+    // The ASCII digits at [start, start + count) as a number, or -1 if any character is not one
+    private static int digits(String value, int start, int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+}
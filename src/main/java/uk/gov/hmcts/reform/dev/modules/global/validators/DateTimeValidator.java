@@ -9,11 +9,13 @@ import java.time.format.DateTimeParseException;
 
 public class DateTimeValidator implements ConstraintValidator<ValidDateTime, String> {
 
-    private String pattern;
+    // Null for the default layout, which goes through the shared DateTimeParser
+    private DateTimeFormatter formatter;
 
     @Override
     public void initialize(ValidDateTime constraintAnnotation) {
-        this.pattern = constraintAnnotation.pattern();
+        String pattern = constraintAnnotation.pattern();
+        this.formatter = DateTimeParser.PATTERN.equals(pattern) ? null : DateTimeFormatter.ofPattern(pattern);
     }
 
     @Override
@@ -23,8 +25,11 @@ public class DateTimeValidator implements ConstraintValidator<ValidDateTime, Str
         }
 
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
-            LocalDateTime.parse(value, formatter);
+            if (formatter == null) {
+                DateTimeParser.parse(value);
+            } else {
+                LocalDateTime.parse(value, formatter);
+            }
             return true;
         } catch (DateTimeParseException e) {
             return false;
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.modules.global.validators;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * A request holding a date-time as text that parses it at most once. @ValidDateTime on the class checks the text
+ * through parsedDateTime(), and the service then reads the value the validator has already parsed.
+ */
+public interface ParsedDateTime {
+
+    /**
+     * @return The date-time, parsed with DateTimeParser on the first call and kept; null when the text is null
+     * @throws DateTimeParseException if the text does not match DateTimeParser.PATTERN
+     */
+    LocalDateTime parsedDateTime();
+}
@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.modules.global.validators;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.time.format.DateTimeParseException;
+
+/**
+ * @ValidDateTime on a ParsedDateTime request. The violation is reported on the named property, so it reads
+ * exactly as the field-level check's did.
+ */
+public class ParsedDateTimeValidator implements ConstraintValidator<ValidDateTime, ParsedDateTime> {
+
+    private String property;
+
+    @Override
+    public void initialize(ValidDateTime constraintAnnotation) {
+        this.property = constraintAnnotation.property();
+    }
+
+    @Override
+    public boolean isValid(ParsedDateTime value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+
+        try {
+            value.parsedDateTime();  // A null date-time is left for @NotNull
+            return true;
+        } catch (DateTimeParseException e) {
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode(property)
+                .addConstraintViolation();
+            return false;
+        }
+    }
+}
@@ -8,12 +8,17 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-@Target({ElementType.FIELD, ElementType.PARAMETER})
+/**
+ * On a String field or parameter, checks it against pattern. On a ParsedDateTime class, checks the value through
+ * parsedDateTime() in DateTimeParser's layout and reports a failure on property.
+ */
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
-@Constraint(validatedBy = DateTimeValidator.class)
+@Constraint(validatedBy = {DateTimeValidator.class, ParsedDateTimeValidator.class})
 public @interface ValidDateTime {
     String message() default "Invalid date format. Expected format: yyyy-MM-dd'T'HH:mm:ss";
     Class<?>[] groups() default {};
     Class<? extends Payload>[] payload() default {};
-    String pattern() default "yyyy-MM-dd'T'HH:mm:ss";
+    String pattern() default DateTimeParser.PATTERN;
+    String property() default "";  // The field holding the text, when used on a class
 }
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+/**
+ * Hibernate second-level cache for Task: a size-bounded Caffeine cache behind JCache.
+ * The cache is built here rather than from a provider config file so its limits sit in application.yaml
+ * with the other tasks.* settings, and so the same instance can be bound to Micrometer.
+ * Hibernate keeps it consistent on entity updates and deletes. Native statements, which Hibernate does not see,
+ * evict only the tasks they change.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TaskEntityCacheConfiguration {
+
+    // The provider's default CacheManager is shared JVM-wide, so a second application context (e.g. in tests)
+    // reuses the region rather than failing to create it, and closing a context must not close the manager
+    @Bean(destroyMethod = "")
+    public CacheManager taskEntityCacheManager(
+        @Value("${tasks.entity-cache.max-entries:10000}") long maxEntries,
+        @Value("${tasks.entity-cache.ttl:10m}") Duration ttl
+    ) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager();
+        if (cacheManager.getCache(Task.CACHE_REGION) == null) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));      // Evicted by W-TinyLFU beyond this
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));  // Backstop for out-of-band writes
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(Task.CACHE_REGION, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer taskEntityCacheCustomizer(CacheManager taskEntityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, taskEntityCacheManager);
+    }
+
+    /**
+     * Publishes cache_gets (hit/miss), cache_puts, cache_evictions and cache_removals for the region.
+     * Hibernate's own hibernate_second_level_cache_* meters cover hits, misses and puts but not evictions.
+     */
+    @Bean
+    public MeterBinder taskEntityCacheMetrics(CacheManager taskEntityCacheManager) {
+        Cache<Object, Object> cache = taskEntityCacheManager.getCache(Task.CACHE_REGION);
+        return registry -> new JCacheMetrics<>(cache, Tags.of("region", Task.CACHE_REGION)).bindTo(registry);
+    }
+}
@@ -0,0 +1,182 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Ready-to-write JSON for GET /api/tasks/{id}, keyed by task ID, so a hot task skips both
+ * ResponseDTO.fromTask and Jackson. Bytes come from the application's own ObjectMapper, so they are
+ * identical to what the message converter would have written.
+ *
+ * <p>Memory is capped by total JSON size (tasks.response-cache.max-size) with Caffeine's W-TinyLFU eviction.
+ * TaskService invalidates an entry on every write to that task, and again once the transaction ends,
+ * like TaskCountCache; a load that raced with a write is dropped rather than cached. Invalidation only reaches
+ * this instance, so each entry keeps the task version it was serialized at: callers pass the version they have
+ * just read from the database, and an entry behind it (left by a write through another instance) is reloaded.
+ * Entries also expire after tasks.response-cache.ttl (default 10m) to free memory held by cold tasks.
+ *
+ * <p>Reading the version costs a primary-key lookup per request. getRecentlyVerified() skips it for an entry
+ * loaded or found current within tasks.response-cache.max-staleness (default 0s, never skipped). Writes through
+ * this instance still invalidate at once; a write through another instance can then go unseen here for up to
+ * max-staleness, so only raise it where clients can tolerate that.
+ */
+@Component
+public class TaskResponseCache implements MeterBinder {
+
+    // Rough per-entry cost of the key, entry and array header on top of the JSON itself
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Entry> responses;
+    private final AtomicLong generation = new AtomicLong();
+    private final long maxStalenessNanos;
+
+    public TaskResponseCache(
+        ObjectMapper objectMapper,
+        @Value("${tasks.response-cache.max-size:16MB}") DataSize maxSize,
+        @Value("${tasks.response-cache.ttl:10m}") Duration ttl,
+        @Value("${tasks.response-cache.max-staleness:0s}") Duration maxStaleness
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.responses = Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((Long id, Entry entry) -> entry.task.json().length + ENTRY_OVERHEAD_BYTES)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Cached JSON for a task, loading and serializing it on a miss.
+     * @param id Task ID
+     * @param loader Loads the task; exceptions (e.g. TaskNotFoundException) propagate and nothing is cached
+     * @return UTF-8 JSON of the ResponseDTO, with the version it was read at
+     */
+    public CachedTask get(Long id, Supplier<ResponseDTO> loader) {
+        Entry cached = responses.getIfPresent(id);
+        if (cached != null) {
+            return cached.task;
+        }
+
+        long readGeneration = generation.get();
+        ResponseDTO response = loader.get();
+        CachedTask task = serialize(response);
+        responses.put(id, new Entry(task));
+        if (generation.get() != readGeneration) {
+            responses.invalidate(id);  // A write happened while we were loading, so this may be stale
+        }
+        return task;
+    }
+
+    /**
+     * Cached JSON for a task at version or later, reloading an entry that is older.
+     * @param version The task's version as just read from the database
+     */
+    public CachedTask get(Long id, long version, Supplier<ResponseDTO> loader) {
+        Entry cached = responses.getIfPresent(id);
+        if (cached != null && cached.task.version() < version) {
+            responses.invalidate(id);
+        } else if (cached != null) {
+            cached.verifiedAt = System.nanoTime();
+        }
+        return get(id, loader);
+    }
+
+    /**
+     * Cached JSON for a task, without checking its version, if the entry was loaded or found current within
+     * max-staleness.
+     * @return The entry, or null if there is none that recent; callers then read the version and call get
+     */
+    public CachedTask getRecentlyVerified(Long id) {
+        if (maxStalenessNanos <= 0) {
+            return null;
+        }
+        Entry cached = responses.getIfPresent(id);
+        return cached != null && System.nanoTime() - cached.verifiedAt <= maxStalenessNanos ? cached.task : null;
+    }
+
+    /**
+     * JSON for a task that must not be cached, such as an archived one only visible with includeArchived=true.
+     */
+    public CachedTask serialize(ResponseDTO response) {
+        return new CachedTask(toJson(response), response.getVersion());
+    }
+
+    public void invalidate(Long id) {
+        evict(id);
+        afterTransaction(() -> evict(id));
+    }
+
+    public void invalidateAll() {
+        evictAll();
+        afterTransaction(this::evictAll);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, responses, "tasks.response");
+    }
+
+    private void evict(Long id) {
+        generation.incrementAndGet();
+        responses.invalidate(id);
+    }
+
+    private void evictAll() {
+        generation.incrementAndGet();
+        responses.invalidateAll();
+    }
+
+    // A reader that loaded before the write committed could otherwise re-cache the old row
+    private static void afterTransaction(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Serialized ResponseDTO and the task version it reflects.
+     */
+    public record CachedTask(byte[] json, long version) {
+    }
+
+    // When the entry was last known to match the database, by System.nanoTime()
+    private static final class Entry {
+        private final CachedTask task;
+        private volatile long verifiedAt = System.nanoTime();
+
+        private Entry(CachedTask task) {
+            this.task = task;
+        }
+    }
+
+    private byte[] toJson(ResponseDTO response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
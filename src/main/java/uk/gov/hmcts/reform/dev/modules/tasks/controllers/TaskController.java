@@ -1,12 +1,17 @@
 package uk.gov.hmcts.reform.dev.modules.tasks.controllers;
 
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,26 +20,72 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.dev.modules.tasks.cache.TaskResponseCache;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkDeleteDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkRescheduleDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkResultDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkStatusDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.CreationDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.CursorPageDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ImportResultDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskChangesDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskStatsDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.UpdateDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.UpdateStatusDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.modules.tasks.io.TaskFileFormat;
 import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.modules.tasks.pagination.CountMode;
+import uk.gov.hmcts.reform.dev.modules.tasks.pagination.TaskSort;
+import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskChangeCounter;
+import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskExportService;
+import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskImportService;
 import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskService;
+import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskSyncService;
+import uk.gov.hmcts.reform.dev.modules.tasks.stream.TaskChangeFeed;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskResponseCache taskResponseCache;
+    private final TaskChangeCounter taskChangeCounter;
+    private final TaskChangeFeed taskChangeFeed;
+    private final TaskSyncService taskSyncService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(
+        TaskService taskService,
+        TaskExportService taskExportService,
+        TaskImportService taskImportService,
+        TaskResponseCache taskResponseCache,
+        TaskChangeCounter taskChangeCounter,
+        TaskChangeFeed taskChangeFeed,
+        TaskSyncService taskSyncService
+    ) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskImportService = taskImportService;
+        this.taskResponseCache = taskResponseCache;
+        this.taskChangeCounter = taskChangeCounter;
+        this.taskChangeFeed = taskChangeFeed;
+        this.taskSyncService = taskSyncService;
     }
 
     @PostMapping
@@ -43,6 +94,55 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Create many tasks in one request and one transaction. Every item is validated first; if any
+     * fail, nothing is saved and the 400 response lists errors keyed by item index, e.g. "[2].title".
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ResponseDTO>> createTasks(@RequestBody List<CreationDTO> request) {
+        List<ResponseDTO> response = taskService.createTasks(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Import tasks from an NDJSON or CSV request body, read as a stream. Valid rows are saved in batches as
+     * they are read; invalid rows are skipped and listed in the response with their line numbers.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ImportResultDTO> importTasks(
+        @RequestParam(defaultValue = "NDJSON") TaskFileFormat format,
+        InputStream body
+    ) throws IOException {
+        ImportResultDTO result = taskImportService.importTasks(format, body);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Bulk operations select tasks by either an "ids" list or a "filter" object (the same filters as
+     * GET /api/tasks). The matching ids (at most 10,000) are read first, then changed with one UPDATE or DELETE
+     * per 1000 of them; the response says how many tasks were affected.
+     */
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<BulkResultDTO> bulkUpdateStatus(@Valid @RequestBody BulkStatusDTO request) {
+        return ResponseEntity.ok(taskService.bulkUpdateStatus(request));
+    }
+
+    @PatchMapping("/bulk/due-date")
+    public ResponseEntity<BulkResultDTO> bulkReschedule(@Valid @RequestBody BulkRescheduleDTO request) {
+        return ResponseEntity.ok(taskService.bulkReschedule(request));
+    }
+
+    // POST rather than DELETE, since the selection is sent as a request body
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<BulkResultDTO> bulkDelete(@RequestBody BulkDeleteDTO request) {
+        return ResponseEntity.ok(taskService.bulkDelete(request));
+    }
+
+    /**
+     * List endpoints carry an ETag from TaskChangeCounter. A matching If-None-Match gets a 304 without running
+     * the filter or count queries; any task change on any instance moves the ETag on.
+     * With includeArchived=true, every list mode also reads completed tasks moved to the archive.
+     */
     @GetMapping
     public ResponseEntity<Page<ResponseDTO>> getAllTasks(
         @RequestParam(required = false) TaskStatus status,
@@ -50,38 +150,174 @@ public class TaskController {
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueDateFrom,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueDateTo,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "10") int size
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "DUE_DATE") TaskSort sort,
+        @RequestParam(defaultValue = "false") boolean includeArchived,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        // Spring will auto-create Pageable from page and size params
-        Pageable pageable = PageRequest.of(page, size, Sort.by("dueDate").ascending());
+        Pageable pageable = pageRequest(page, size, sort);
 
-        Page<ResponseDTO> tasks = taskService.getAllTasks(status, search, dueDateFrom, dueDateTo, pageable);
+        return listResponse(ifNoneMatch,
+            () -> taskService.getAllTasks(status, search, dueDateFrom, dueDateTo, pageable, includeArchived));
+    }
 
-        return ResponseEntity.ok(tasks);
+    /**
+     * Count-aware mode for GET /api/tasks, selected by the count parameter.
+     * NONE skips COUNT(*) entirely; ESTIMATED reuses a cached total for the same filters when it can.
+     */
+    @GetMapping(params = {"count", "!cursor"})
+    public ResponseEntity<TaskPageDTO> getTaskPage(
+        @RequestParam(required = false) TaskStatus status,
+        @RequestParam(required = false) String search,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueDateFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueDateTo,
+        @RequestParam CountMode count,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "DUE_DATE") TaskSort sort,
+        @RequestParam(defaultValue = "false") boolean includeArchived,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        Pageable pageable = pageRequest(page, size, sort);
+
+        return listResponse(ifNoneMatch,
+            () -> taskService.getTaskPage(status, search, dueDateFrom, dueDateTo, pageable, count, includeArchived));
     }
 
+    /**
+     * Cursor (keyset) mode for GET /api/tasks, selected by the presence of the cursor parameter.
+     * Pass an empty cursor for the first page, then the nextCursor from each response.
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageDTO> getTasksByCursor(
+        @RequestParam(required = false) TaskStatus status,
+        @RequestParam(required = false) String search,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueDateFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueDateTo,
+        @RequestParam String cursor,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "false") boolean includeArchived,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return listResponse(ifNoneMatch, () -> taskService.getTasksByCursor(
+            status, search, dueDateFrom, dueDateTo, cursor, size, includeArchived));
+    }
+
+    /**
+     * Stream every task matching the filters as NDJSON (default) or CSV, with no paging and no count.
+     * The body is written from a database cursor after the headers are sent, so memory use is flat.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+        @RequestParam(required = false) TaskStatus status,
+        @RequestParam(required = false) String search,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueDateFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueDateTo,
+        @RequestParam(defaultValue = "NDJSON") TaskFileFormat format
+    ) {
+        StreamingResponseBody body =
+            out -> taskExportService.export(status, search, dueDateFrom, dueDateTo, format, out);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=tasks." + format.getExtension())
+            .body(body);
+    }
+
+    /**
+     * Dashboard counts: tasks per status, overdue and due today. Read from a summary row and per-minute counts of
+     * open tasks, kept up to date by every write, so no tasks are scanned.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsDTO> getStats() {
+        return ResponseEntity.ok(taskService.getStats());
+    }
+
+    /**
+     * Delta sync: tasks created or updated, and IDs of tasks deleted, since the token from the previous call.
+     * Without a token every task is returned. Call again with nextToken while hasMore is true.
+     */
+    @GetMapping("/changes")
+    @ApiResponse(responseCode = "410", description = "The token is older than the tombstone retention")
+    public ResponseEntity<TaskChangesDTO> getChanges(
+        @RequestParam(required = false) String since,
+        @RequestParam(defaultValue = "500") int limit
+    ) {
+        return ResponseEntity.ok(taskSyncService.getChanges(since, limit));
+    }
+
+    /**
+     * Server-Sent Events for every committed create, update, status change and delete, so screens can follow
+     * changes instead of polling the list. A client reconnecting with Last-Event-ID is sent what it missed,
+     * or a reset event when that is no longer held.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return taskChangeFeed.subscribe(lastEventId);
+    }
+
+    /**
+     * Written from TaskResponseCache as pre-serialized JSON: the same body as a ResponseDTO,
+     * without mapping and serializing it again for every request.
+     * The task's version is read from the database first, with a version-only query, so a 304 or a cached body is
+     * never older than the last write through any instance. With tasks.response-cache.max-staleness set, an entry
+     * verified that recently is served without the query, and a write through another instance may go unseen for
+     * that long.
+     * With includeArchived=true, a task not in the tasks table is looked up in the archive; archived tasks are
+     * not cached, so a plain GET of one is still 404.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseDTO> getTask(@PathVariable Long id) {
-        ResponseDTO response = taskService.getTask(id);
-        return ResponseEntity.ok(response);
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = ResponseDTO.class)))
+    @ApiResponse(responseCode = "304", description = "If-None-Match matches the current ETag")
+    public ResponseEntity<byte[]> getTask(
+        @PathVariable Long id,
+        @RequestParam(defaultValue = "false") boolean includeArchived,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        TaskResponseCache.CachedTask recent = taskResponseCache.getRecentlyVerified(id);
+        long version = recent != null ? recent.version() : taskService.getVersion(id, includeArchived);
+        if (ifNoneMatch != null && TaskETags.matchesNoneMatch(ifNoneMatch, TaskETags.of(version))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(TaskETags.of(version)).build();
+        }
+
+        TaskResponseCache.CachedTask response = recent;
+        if (response == null) {
+            try {
+                response = taskResponseCache.get(id, version, () -> taskService.getTask(id, version));
+            } catch (TaskNotFoundException e) {
+                if (!includeArchived) {
+                    throw e;
+                }
+                response = taskResponseCache.serialize(taskService.getArchivedTask(id));
+            }
+        }
+        return ResponseEntity.ok()
+            .eTag(TaskETags.of(response.version()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(response.json());
     }
 
+    /**
+     * With If-Match, the update only applies if the task is still at that ETag's version; otherwise 412.
+     */
     @PutMapping("/{id}")
     public ResponseEntity<ResponseDTO> updateTask(
         @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Valid @RequestBody UpdateDTO request
     ) {
-        ResponseDTO response = taskService.updateTask(id, request);
-        return ResponseEntity.ok(response);
+        ResponseDTO response = taskService.updateTask(id, request, TaskETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(TaskETags.of(response.getVersion())).body(response);
     }
 
     @PatchMapping("/{id}/status")
     public ResponseEntity<ResponseDTO> updateTaskStatus(
         @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Valid @RequestBody UpdateStatusDTO request
     ) {
-        ResponseDTO response = taskService.updateStatus(id, request);
-        return ResponseEntity.ok(response);
+        ResponseDTO response = taskService.updateStatus(id, request, TaskETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(TaskETags.of(response.getVersion())).body(response);
     }
 
     @DeleteMapping("/{id}")
@@ -89,4 +325,22 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    // The counter is read before the query, so a write landing in between leaves an older ETag on newer data.
+    // That costs the client one extra full fetch later, but can never hide a change behind a 304.
+    private <T> ResponseEntity<T> listResponse(String ifNoneMatch, Supplier<T> query) {
+        String etag = TaskETags.ofChangeCount(taskChangeCounter.current());
+        if (ifNoneMatch != null && TaskETags.matchesNoneMatch(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(query.get());
+    }
+
+    // An unsorted Pageable tells the service to rank search results by relevance instead
+    private Pageable pageRequest(int page, int size, TaskSort sort) {
+        if (sort == TaskSort.RELEVANCE) {
+            return PageRequest.of(page, size);
+        }
+        return PageRequest.of(page, size, Sort.by("dueDate").ascending());
+    }
 }
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.controllers;
+
+/**
+ * Strong ETags for task resources. A single task's is its @Version ("3" is version 3 of that task);
+ * a list's is the database-wide TaskChangeCounter ("changes-42"), which moves whenever any task changes.
+ */
+final class TaskETags {
+
+    private static final String WEAK_PREFIX = "W/";
+    // Versions start at 0, so no task is ever at this one
+    private static final long NEVER_MATCHES = -1L;
+
+    private TaskETags() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    static String ofChangeCount(long changeCount) {
+        return "\"changes-" + changeCount + "\"";
+    }
+
+    /**
+     * If-None-Match uses weak comparison, so W/"3" also matches "3".
+     * @param ifNoneMatch Header value: "*" or a comma-separated list of ETags
+     * @param current The resource's current ETag
+     * @return true if the client's copy is current and a 304 can be sent
+     */
+    static boolean matchesNoneMatch(String ifNoneMatch, String current) {
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.startsWith(WEAK_PREFIX)) {
+                trimmed = trimmed.substring(WEAK_PREFIX.length());
+            }
+            if (trimmed.equals("*") || trimmed.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The version an If-Match header requires, for the service to check against the stored task.
+     * Only a single strong ETag is supported; weak or unrecognised tags can never match, so they require a version
+     * no task has. The service still looks for the task first, so a missing one is a 404 rather than a 412.
+     * @param ifMatch Header value, or null when absent
+     * @return Required version, or null when there is no precondition (no header, or "*")
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return NEVER_MATCHES;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return NEVER_MATCHES;  // Not one of ours, so it cannot match
+        }
+    }
+}
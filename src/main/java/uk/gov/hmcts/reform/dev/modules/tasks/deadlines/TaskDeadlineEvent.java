@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.deadlines;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published by TaskDeadlineScheduler, one event per kind per tick, listing every task that crossed the line.
+ * @param kind DUE_SOON when a task enters the tasks.deadlines.due-soon window, OVERDUE when its due date passes
+ * @param taskIds Tasks that crossed, in due-date order
+ * @param at The scheduler's clock when they were found
+ */
+public record TaskDeadlineEvent(Kind kind, List<Long> taskIds, LocalDateTime at) {
+
+    public enum Kind {
+        DUE_SOON,
+        OVERDUE
+    }
+}
@@ -0,0 +1,270 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.deadlines;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.modules.tasks.deadlines.TaskDeadlineEvent.Kind;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes a TaskDeadlineEvent when open tasks become due soon and when they become overdue, without polling
+ * the tasks table. Deadlines are read a window at a time (tasks.deadlines.window, default 1h) with a range query
+ * on idx_tasks_due_date, ahead of when they are needed, into a TimingWheel that fires them to within one tick
+ * (tasks.deadlines.tick, default 1s).
+ *
+ * <p>TaskService reports every committed change. A task moved into the loaded range is scheduled straight away;
+ * one completed, deleted or moved into the past is dropped, and one moved beyond the range is left for the window
+ * that will cover it.
+ * Bulk changes reload the loaded range, which is one window's worth of rows rather than the table.
+ *
+ * <p>Dropped deadlines are not dug out of the wheel; they are skipped when they fire. Each instance runs its own
+ * scheduler, and tasks that were already overdue at startup are not announced again.
+ */
+@Component
+public class TaskDeadlineScheduler implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskDeadlineScheduler.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long tickMillis;
+    private final Duration dueSoon;
+    private final Duration window;
+
+    // Held by request threads after commit and by the ticking thread; a lock rather than synchronized so
+    // virtual threads are not pinned while a window loads
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Armed> armed = new ConcurrentHashMap<>();
+    private final AtomicLong dueSoonFired = new AtomicLong();
+    private final AtomicLong overdueFired = new AtomicLong();
+    private TimingWheel<Deadline> wheel;
+    private LocalDateTime now;
+    private LocalDateTime loadedUntil;  // Every open task due before this is in the wheel
+    private long generation;
+
+    public TaskDeadlineScheduler(
+        JdbcTemplate jdbcTemplate,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${tasks.deadlines.tick:1s}") Duration tick,
+        @Value("${tasks.deadlines.due-soon:15m}") Duration dueSoon,
+        @Value("${tasks.deadlines.window:1h}") Duration window
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.tickMillis = tick.toMillis();
+        this.dueSoon = dueSoon;
+        this.window = window;
+    }
+
+    /**
+     * Schedule, move or drop a task's deadlines once the current transaction commits.
+     */
+    public void scheduled(Task task) {
+        Long id = task.getId();
+        LocalDateTime dueDate = task.getDueDate();
+        boolean open = task.getStatus() != TaskStatus.COMPLETED;
+        afterCommit(() -> update(id, open ? dueDate : null));
+    }
+
+    /**
+     * Drop a task's deadlines once the current transaction commits.
+     */
+    public void cancelled(Long id) {
+        afterCommit(() -> update(id, null));
+    }
+
+    /**
+     * Reload the loaded range once the current transaction commits, for writes that cannot say what they changed.
+     */
+    public void changedInBulk() {
+        afterCommit(this::reload);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.deadlines.tick:1s}")
+    public void tick() {
+        advanceTo(LocalDateTime.now());
+    }
+
+    /**
+     * Move the scheduler's clock to the given time, loading deadlines ahead of it and publishing any it passes.
+     * Public so tests can drive the clock; a time earlier than the current one does nothing.
+     */
+    public void advanceTo(LocalDateTime time) {
+        List<Long> dueSoonIds = new ArrayList<>();
+        List<Long> overdueIds = new ArrayList<>();
+        lock.lock();
+        try {
+            if (wheel == null) {
+                start(time);
+            }
+            if (time.isBefore(now)) {
+                return;
+            }
+            now = time;
+            loadAhead();
+            wheel.advanceTo(toTick(time), deadline -> {
+                Armed current = armed.get(deadline.taskId());
+                if (current == null || current.generation() != deadline.generation()) {
+                    return;  // Moved or dropped since it was scheduled
+                }
+                if (deadline.kind() == Kind.DUE_SOON) {
+                    dueSoonIds.add(deadline.taskId());
+                } else {
+                    overdueIds.add(deadline.taskId());
+                    armed.remove(deadline.taskId());
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+
+        // Published outside the lock, so slow listeners never hold up writes
+        publish(Kind.DUE_SOON, dueSoonIds, time, dueSoonFired);
+        publish(Kind.OVERDUE, overdueIds, time, overdueFired);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.deadlines.scheduled", armed, Map::size)
+            .description("Open tasks whose next deadline is in the timing wheel")
+            .register(registry);
+        FunctionCounter.builder("tasks.deadlines.fired", dueSoonFired, AtomicLong::get)
+            .tag("kind", "due_soon")
+            .register(registry);
+        FunctionCounter.builder("tasks.deadlines.fired", overdueFired, AtomicLong::get)
+            .tag("kind", "overdue")
+            .register(registry);
+    }
+
+    private void start(LocalDateTime time) {
+        wheel = new TimingWheel<>(toTick(time));
+        now = time;
+        loadedUntil = time;  // Tasks already overdue are not announced
+    }
+
+    // Keep the wheel holding at least one window beyond the due-soon lead
+    private void loadAhead() {
+        LocalDateTime needed = now.plus(dueSoon).plus(window);
+        while (loadedUntil.isBefore(needed)) {
+            LocalDateTime from = loadedUntil;
+            // Moved first: a task committed while the window loads is scheduled by update() or found here, or both
+            loadedUntil = from.plus(window);
+            RowCallbackHandler load =
+                rs -> schedule(rs.getLong("id"), rs.getTimestamp("due_date").toLocalDateTime(), false);
+            jdbcTemplate.query(
+                "SELECT id, due_date FROM tasks WHERE due_date >= ? AND due_date < ? AND status <> 'COMPLETED' "
+                    + "ORDER BY due_date",
+                load, Timestamp.valueOf(from), Timestamp.valueOf(loadedUntil));
+        }
+    }
+
+    private void update(Long id, LocalDateTime dueDate) {
+        lock.lock();
+        try {
+            if (wheel == null) {
+                return;  // Not started; the first load will read the committed row
+            }
+            // Completed, deleted, due after the loaded range, or moved into the past (overdue is only announced
+            // when the due date passes, so editing an overdue task does not announce it again)
+            if (dueDate == null || !dueDate.isBefore(loadedUntil) || !dueDate.isAfter(now)) {
+                armed.remove(id);
+                return;
+            }
+            schedule(id, dueDate, true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reload() {
+        lock.lock();
+        try {
+            if (wheel == null) {
+                return;
+            }
+            wheel.clear();
+            armed.clear();
+            loadedUntil = now;
+            loadAhead();
+            logger.debug("Task deadlines reloaded after a bulk change");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param announceLateDueSoon Whether a task already inside the due-soon lead still gets DUE_SOON: yes when
+     *     it has just been created or changed, no when it is only being (re)loaded and may have had one already
+     */
+    private void schedule(long id, LocalDateTime dueDate, boolean announceLateDueSoon) {
+        Armed current = armed.get(id);
+        if (current != null && current.dueDate().equals(dueDate)) {
+            return;  // Unchanged, e.g. a title edit, or found by a load as well as by update()
+        }
+        long thisGeneration = ++generation;
+        armed.put(id, new Armed(dueDate, thisGeneration));
+
+        LocalDateTime dueSoonAt = dueDate.minus(dueSoon);
+        if (now.isBefore(dueDate) && (announceLateDueSoon || now.isBefore(dueSoonAt))) {
+            wheel.schedule(toTick(dueSoonAt), new Deadline(id, thisGeneration, Kind.DUE_SOON));
+        }
+        wheel.schedule(toTick(dueDate), new Deadline(id, thisGeneration, Kind.OVERDUE));
+    }
+
+    private void publish(Kind kind, List<Long> taskIds, LocalDateTime at, AtomicLong fired) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        fired.addAndGet(taskIds.size());
+        logger.info("{} tasks {}: {}", taskIds.size(), kind == Kind.DUE_SOON ? "due soon" : "now overdue", taskIds);
+        eventPublisher.publishEvent(new TaskDeadlineEvent(kind, List.copyOf(taskIds), at));
+    }
+
+    // Ticks count from the epoch on the wall clock; due dates are wall-clock times too
+    private long toTick(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli() / tickMillis;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // The deadline a task is currently waiting on; wheel entries from an older generation are stale
+    private record Armed(LocalDateTime dueDate, long generation) {
+    }
+
+    private record Deadline(long taskId, long generation, Kind kind) {
+    }
+}
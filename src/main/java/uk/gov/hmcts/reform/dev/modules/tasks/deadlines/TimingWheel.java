@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.deadlines;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel (Varghese and Lauck): LEVELS wheels of SLOTS slots each, where a slot on level n
+ * spans SLOTS^n ticks. Scheduling is O(1); an item is moved down at most LEVELS - 1 times before it fires, so
+ * the total cost per item is constant however many are pending. Not thread-safe; the caller locks.
+ *
+ * <p>Times are plain tick numbers. A deadline further out than the wheels reach is parked in the farthest slot
+ * and re-placed when that slot comes round, so any deadline is accepted.
+ */
+final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long SPAN = 1L << (SLOT_BITS * LEVELS);  // Ticks covered by all levels together
+
+    private final List<List<Entry<T>>> slots = new ArrayList<>(LEVELS * SLOTS);
+    private long currentTick;
+    private int size;
+
+    TimingWheel(long startTick) {
+        this.currentTick = startTick;
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Entries waiting to fire, including any the caller has since decided to ignore.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param deadlineTick Tick at which the item fires; one at or before the current tick fires on the next
+     */
+    void schedule(long deadlineTick, T item) {
+        place(new Entry<>(Math.max(deadlineTick, currentTick + 1), item));
+        size++;
+    }
+
+    /**
+     * Move the wheel forward to targetTick, handing every item whose deadline has been reached to expired,
+     * in deadline order.
+     */
+    void advanceTo(long targetTick, Consumer<T> expired) {
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Bring down the higher-level slots this tick opens, farthest first, so each lands where it belongs
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+
+            List<Entry<T>> due = slot(0, currentTick);
+            if (due.isEmpty()) {
+                continue;
+            }
+            slots.set(index(0, currentTick), new ArrayList<>());
+            for (Entry<T> entry : due) {
+                size--;
+                expired.accept(entry.item());
+            }
+        }
+    }
+
+    void clear() {
+        slots.forEach(List::clear);
+        size = 0;
+    }
+
+    private void cascade(int level) {
+        List<Entry<T>> entries = slot(level, currentTick);
+        if (entries.isEmpty()) {
+            return;
+        }
+        slots.set(index(level, currentTick), new ArrayList<>());
+        entries.forEach(this::place);
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick() - currentTick;
+        if (delta >= SPAN) {
+            // Parked in the slot opened just before the deadline falls within reach, then placed again
+            slot(LEVELS - 1, currentTick + SPAN - 1).add(entry);
+            return;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        slot(level, entry.deadlineTick()).add(entry);
+    }
+
+    private List<Entry<T>> slot(int level, long tick) {
+        return slots.get(index(level, tick));
+    }
+
+    private static int index(int level, long tick) {
+        return level * SLOTS + (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private record Entry<T>(long deadlineTick, T item) {
+    }
+}
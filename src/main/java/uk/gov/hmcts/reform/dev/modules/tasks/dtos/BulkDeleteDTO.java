@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BulkDeleteDTO {
+
+    private List<Long> ids;         // Either ids...
+    private TaskFilterDTO filter;   // ...or filter, not both
+}
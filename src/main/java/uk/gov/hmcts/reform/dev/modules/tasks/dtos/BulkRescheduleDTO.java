@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BulkRescheduleDTO {
+
+    private List<Long> ids;         // Either ids...
+    private TaskFilterDTO filter;   // ...or filter, not both
+
+    @NotNull(message = "Shift is required")
+    private Duration shift;         // ISO-8601, e.g. "P7D" or "-PT2H"
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkResultDTO {
+
+    private long affected;  // Rows actually changed or deleted
+}
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BulkStatusDTO {
+
+    private List<Long> ids;         // Either ids...
+    private TaskFilterDTO filter;   // ...or filter, not both
+
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
+}
@@ -3,19 +3,23 @@ package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import uk.gov.hmcts.reform.dev.modules.global.validators.DateTimeParser;
+import uk.gov.hmcts.reform.dev.modules.global.validators.ParsedDateTime;
 import uk.gov.hmcts.reform.dev.modules.global.validators.ValidDateTime;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 @ToString
-public class CreationDTO {
+@ValidDateTime(property = "dueDate")
+public class CreationDTO implements ParsedDateTime {
 
     @NotBlank(message = "Title is required")
     @Size(max = 200, message = "Title must not exceed 200 characters")
@@ -25,6 +29,30 @@ public class CreationDTO {
     private String description;
 
     @NotNull(message = "Due date is required")
-    @ValidDateTime
     private String dueDate;
+
+    // Parsed by the validator and read again by the service
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private LocalDateTime parsedDueDate;
+
+    public CreationDTO(String title, String description, String dueDate) {
+        this.title = title;
+        this.description = description;
+        this.dueDate = dueDate;
+    }
+
+    public void setDueDate(String dueDate) {
+        this.dueDate = dueDate;
+        this.parsedDueDate = null;
+    }
+
+    @Override
+    public LocalDateTime parsedDateTime() {
+        if (parsedDueDate == null && dueDate != null) {
+            parsedDueDate = DateTimeParser.parse(dueDate);
+        }
+        return parsedDueDate;
+    }
 }
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO {
+
+    private List<ResponseDTO> content;
+    private int size;
+    private String nextCursor;  // null when there are no more tasks
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDTO {
+
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private List<RejectedRowDTO> rejectedRows;  // The first tasks.import.max-reported-rejections only
+    private boolean rejectedRowsTruncated;
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RejectedRowDTO {
+
+    private long line;                  // Line in the uploaded file where the row starts
+    private Map<String, String> errors; // Field name -> reason, or "row" for rows that could not be parsed
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,6 +25,10 @@ public class ResponseDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Sent as the ETag header rather than in the body
+    @JsonIgnore
+    private Long version;
+
     /**
      * Convert Task entity to response DTO with user-friendly status.
      */
@@ -36,7 +41,8 @@ public class ResponseDTO {
             task.getStatus().getDisplayValue(),
             task.getDueDate(),
             task.getCreatedAt(),
-            task.getUpdatedAt()
+            task.getUpdatedAt(),
+            task.getVersion()
         );
     }
 }
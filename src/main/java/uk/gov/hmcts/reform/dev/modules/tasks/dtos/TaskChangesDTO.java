@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesDTO {
+
+    private List<ResponseDTO> changed;  // Created or updated since the token, oldest change first
+    private List<Long> deleted;         // IDs of tasks deleted since the token
+    private String nextToken;           // Pass as since on the next call
+    private boolean hasMore;            // More changes are waiting; call again straight away with nextToken
+}
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The GET /api/tasks filters, as a request body for bulk operations.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TaskFilterDTO {
+
+    private TaskStatus status;
+    private String search;
+    private LocalDateTime dueDateFrom;
+    private LocalDateTime dueDateTo;
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Listing response for the count-aware modes. Mirrors the default page shape,
+ * with totals left null when no count was taken.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDTO {
+
+    private List<ResponseDTO> content;
+    private PageMetadata page;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PageMetadata {
+        private int size;
+        private int number;
+        private Long totalElements;   // null when count=NONE
+        private Integer totalPages;   // null when count=NONE
+        private boolean hasNext;
+        private boolean estimated;    // true when totals came from the count cache
+    }
+}
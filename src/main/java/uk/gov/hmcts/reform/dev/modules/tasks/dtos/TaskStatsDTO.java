@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsDTO {
+
+    private Map<TaskStatus, Long> byStatus;
+    private long total;
+    private long overdue;   // Not completed and past their due date
+    private long dueToday;  // Not completed and due at any time today
+    private LocalDateTime reconciledAt;  // Last full recount from the tasks table
+}
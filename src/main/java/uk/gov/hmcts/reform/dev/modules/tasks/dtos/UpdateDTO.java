@@ -3,20 +3,24 @@ package uk.gov.hmcts.reform.dev.modules.tasks.dtos;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import uk.gov.hmcts.reform.dev.modules.global.validators.DateTimeParser;
+import uk.gov.hmcts.reform.dev.modules.global.validators.ParsedDateTime;
 import uk.gov.hmcts.reform.dev.modules.global.validators.ValidDateTime;
 import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 @ToString
-public class UpdateDTO {
+@ValidDateTime(property = "dueDate")
+public class UpdateDTO implements ParsedDateTime {
 
     @NotBlank(message = "Title is required")
     @Size(max = 200, message = "Title must not exceed 200 characters")
@@ -26,9 +30,34 @@ public class UpdateDTO {
     private String description;
 
     @NotNull(message = "Due date is required")
-    @ValidDateTime
     private String dueDate;
 
     @NotNull(message = "Status is required")
     private TaskStatus status;
+
+    // Parsed by the validator and read again by the service
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private LocalDateTime parsedDueDate;
+
+    public UpdateDTO(String title, String description, String dueDate, TaskStatus status) {
+        this.title = title;
+        this.description = description;
+        this.dueDate = dueDate;
+        this.status = status;
+    }
+
+    public void setDueDate(String dueDate) {
+        this.dueDate = dueDate;
+        this.parsedDueDate = null;
+    }
+
+    @Override
+    public LocalDateTime parsedDateTime() {
+        if (parsedDueDate == null && dueDate != null) {
+            parsedDueDate = DateTimeParser.parse(dueDate);
+        }
+        return parsedDueDate;
+    }
 }
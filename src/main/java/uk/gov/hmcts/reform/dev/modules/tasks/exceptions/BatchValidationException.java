@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.exceptions;
+
+import java.util.Map;
+
+public class BatchValidationException extends RuntimeException {
+
+    private final Map<String, String> validationErrors;
+
+    public BatchValidationException(Map<String, String> validationErrors) {
+        super(validationErrors.size() + " field(s) in the batch have validation errors");
+        this.validationErrors = validationErrors;
+    }
+
+    // Keyed by "[index].field", e.g. "[3].title"
+    public Map<String, String> getValidationErrors() {
+        return validationErrors;
+    }
+}
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.exceptions;
+
+public class InvalidTaskRequestException extends RuntimeException {
+    public InvalidTaskRequestException(String message) {
+        super(message);
+    }
+}
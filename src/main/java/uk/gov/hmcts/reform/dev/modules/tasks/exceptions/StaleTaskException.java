@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.exceptions;
+
+/**
+ * The client's If-Match version no longer matches the task, i.e. it has changed since the client read it.
+ */
+public class StaleTaskException extends RuntimeException {
+    public StaleTaskException(Long id) {
+        super("Task with id " + id + " has been modified since it was read");
+    }
+}
@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.exceptions;
+
+/**
+ * A delta sync token older than the tombstone retention: deletes since then may no longer be known,
+ * so the client has to start again with a full sync.
+ */
+public class SyncTokenExpiredException extends RuntimeException {
+    public SyncTokenExpiredException() {
+        super("Sync token has expired; sync again without a token");
+    }
+}
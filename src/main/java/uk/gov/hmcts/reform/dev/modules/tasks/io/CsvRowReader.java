@@ -0,0 +1,122 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental RFC 4180 reader: returns one record at a time, so a file of any size can be read with
+ * memory bounded by its longest record. Quoted fields may contain commas, doubled quotes and line breaks.
+ */
+public class CsvRowReader {
+
+    /**
+     * One CSV record.
+     * @param line Physical line the record starts on (1-based)
+     * @param fields Field values, empty strings for empty fields
+     * @param error Why the record is malformed, or null if it parsed cleanly
+     */
+    public record Row(long line, List<String> fields, String error) {
+    }
+
+    private final Reader reader;
+    private long line = 1;
+    private int peeked = -2;  // -2 means nothing peeked
+
+    public CsvRowReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Read the next non-blank record.
+     * @return The record, or null at end of input
+     */
+    public Row next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\r' || c == '\n') {
+                consumeLineEnd(c);
+                continue;  // Skip blank lines
+            }
+            return readRecord(c);
+        }
+    }
+
+    private Row readRecord(int first) throws IOException {
+        long startLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        int c = first;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    fields.add(field.toString());
+                    return new Row(startLine, fields, "Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n' || (c == '\r' && peek() != '\n')) {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c != -1) {
+                    consumeLineEnd(c);
+                }
+                fields.add(field.toString());
+                return new Row(startLine, fields, null);
+            } else {
+                field.append((char) c);
+                fieldStart = false;
+            }
+            c = read();
+        }
+    }
+
+    // Treat \r\n, \n and \r alike
+    private void consumeLineEnd(int c) throws IOException {
+        if (c == '\r' && peek() == '\n') {
+            read();
+        }
+        line++;
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+}
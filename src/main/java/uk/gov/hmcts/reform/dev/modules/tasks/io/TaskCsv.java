@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.io;
+
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Minimal RFC 4180 CSV support for task exports.
+ */
+public final class TaskCsv {
+
+    public static final String EXPORT_HEADER = "id,title,description,status,dueDate,createdAt,updatedAt";
+
+    private TaskCsv() {
+    }
+
+    public static void writeRow(Writer writer, ResponseDTO task) throws IOException {
+        writer.write(String.valueOf(task.getId()));
+        writer.write(',');
+        writeField(writer, task.getTitle());
+        writer.write(',');
+        writeField(writer, task.getDescription());
+        writer.write(',');
+        writer.write(task.getStatus().name());
+        writer.write(',');
+        writeDateTime(writer, task.getDueDate());
+        writer.write(',');
+        writeDateTime(writer, task.getCreatedAt());
+        writer.write(',');
+        writeDateTime(writer, task.getUpdatedAt());
+        writer.write("\r\n");
+    }
+
+    // Quote only when needed, doubling embedded quotes; null is written as an empty field
+    static void writeField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void writeDateTime(Writer writer, LocalDateTime value) throws IOException {
+        if (value != null) {
+            writer.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));  // Same form as the JSON API
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.io;
+
+/**
+ * File formats for streaming tasks in and out of the service.
+ */
+public enum TaskFileFormat {
+    NDJSON("application/x-ndjson", "ndjson"),  // One JSON object per line
+    CSV("text/csv", "csv");                    // RFC 4180, header row first
+
+    private final String contentType;
+    private final String extension;
+
+    TaskFileFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
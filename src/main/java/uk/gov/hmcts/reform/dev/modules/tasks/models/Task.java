@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.dev.modules.tasks.models;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,23 +10,34 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 public class Task {
+    // Second-level cache region, built and sized by TaskEntityCacheConfiguration
+    public static final String CACHE_REGION = "tasks";
+
+    // Pooled sequence rather than IDENTITY: ids are known before INSERT, so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_seq")
+    @SequenceGenerator(name = "task_id_seq", sequenceName = "task_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -47,6 +59,11 @@ public class Task {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // Optimistic lock: a concurrent update fails at flush instead of silently overwriting. Also the task's ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One posting in the search index: task {@code taskId} contains {@code trigram}.
+ * Rows are written with JDBC by TaskSearchIndex; the entity exists so search
+ * Specifications can subquery the index.
+ */
+@Entity
+@Table(name = "task_trigrams")
+@IdClass(TaskTrigramId.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskTrigram {
+    @Id
+    @Column(nullable = false, length = 3)
+    private String trigram;
+
+    @Id
+    @Column(nullable = false)
+    private Long taskId;
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.models;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class TaskTrigramId implements Serializable {
+    private String trigram;
+    private Long taskId;
+}
@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task in either the tasks table or tasks_archive, read through the tasks_with_archive view for requests
+ * with includeArchived=true. Rows are never written through this entity; TaskArchiver moves them with JDBC.
+ * Attribute names match Task's, so TaskSpecifications build the same predicates against it.
+ */
+@Entity
+@Immutable
+@Table(name = "tasks_with_archive")
+@NoArgsConstructor
+@Getter
+public class TaskWithArchive {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column
+    private String description;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime dueDate;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private Long version;
+}
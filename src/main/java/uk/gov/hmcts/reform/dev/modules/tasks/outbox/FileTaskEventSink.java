@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each message as one line of NDJSON to tasks.outbox.file (default ./data/task-events.ndjson).
+ * A batch is written with one write and forced to disk before the relay deletes it from the outbox, so a crash
+ * can repeat lines but never lose them.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.sink", havingValue = "file", matchIfMissing = true)
+public class FileTaskEventSink implements TaskEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileTaskEventSink(
+        ObjectMapper objectMapper,
+        @Value("${tasks.outbox.file:./data/task-events.ndjson}") Path file
+    ) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(messages.size() * 512);
+        for (OutboxMessage message : messages) {
+            lines.write(objectMapper.writeValueAsBytes(message));
+            lines.write('\n');
+        }
+
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        try (FileChannel channel = FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps delivered messages in a list, for tests and local runs (tasks.outbox.sink=memory). Unbounded.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.sink", havingValue = "memory")
+public class InMemoryTaskEventSink implements TaskEventSink {
+
+    private final List<OutboxMessage> delivered = new ArrayList<>();
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> messages) {
+        delivered.addAll(messages);
+    }
+
+    /**
+     * Every message delivered so far, oldest first.
+     */
+    public synchronized List<OutboxMessage> messages() {
+        return List.copyOf(delivered);
+    }
+}
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import uk.gov.hmcts.reform.dev.modules.tasks.stream.TaskChangeEvent.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task change event as stored in task_outbox and handed to a TaskEventSink.
+ * @param id Outbox row id: increasing, and in commit order for any one task, so consumers can use it to
+ *     drop the duplicates that at-least-once delivery can produce
+ * @param taskId The task changed; a bulk operation writes one message per task
+ * @param type What happened
+ * @param payload JSON: the task for creates and updates, {"id":...} for deletes
+ * @param createdAt When the change was written, just before its transaction committed
+ */
+public record OutboxMessage(
+    long id,
+    long taskId,
+    Type type,
+    @JsonRawValue String payload,
+    LocalDateTime createdAt
+) {
+}
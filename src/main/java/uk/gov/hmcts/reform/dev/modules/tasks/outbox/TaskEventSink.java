@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Where TaskOutboxRelay delivers task change events. Chosen with tasks.outbox.sink: file (the default)
+ * or memory.
+ */
+public interface TaskEventSink {
+
+    /**
+     * Deliver a batch, in outbox order. Returning means every message has been accepted and the batch is removed
+     * from the outbox; throwing leaves the whole batch there to be delivered again, so a sink may see a message
+     * more than once.
+     */
+    void deliver(List<OutboxMessage> messages) throws IOException;
+}
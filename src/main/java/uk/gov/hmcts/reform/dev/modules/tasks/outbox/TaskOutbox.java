@@ -0,0 +1,119 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.stream.TaskChangeEvent.Type;
+
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes task change events to task_outbox in the same transaction as the change, for TaskOutboxRelay to
+ * deliver. A rolled-back change leaves no event, and a committed one is never lost.
+ *
+ * <p>Events are collected in memory and inserted with one JDBC batch just before the transaction commits,
+ * as TaskChangeCounter does, so a write pays for a single extra round-trip however many tasks it changed.
+ * By then the transaction holds the lock on every task row it updated or deleted, so a later change to the
+ * same task gets a higher outbox id and can only commit after this one: ids are in commit order per task.
+ */
+@Component
+public class TaskOutbox {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public TaskOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void created(ResponseDTO task) {
+        add(task.getId(), Type.CREATED, task);
+    }
+
+    public void created(List<ResponseDTO> tasks) {
+        tasks.forEach(this::created);
+    }
+
+    public void updated(ResponseDTO task) {
+        add(task.getId(), Type.UPDATED, task);
+    }
+
+    public void updated(List<ResponseDTO> tasks) {
+        tasks.forEach(this::updated);
+    }
+
+    public void statusChanged(ResponseDTO task) {
+        add(task.getId(), Type.STATUS_CHANGED, task);
+    }
+
+    public void statusChanged(List<ResponseDTO> tasks) {
+        tasks.forEach(this::statusChanged);
+    }
+
+    public void deleted(Long id) {
+        add(id, Type.DELETED, Map.of("id", id));
+    }
+
+    public void deleted(Collection<Long> ids) {
+        ids.forEach(this::deleted);
+    }
+
+    private void add(Long taskId, Type type, Object payload) {
+        Object[] row = {taskId, type.name(), serialize(payload), null};
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(List.<Object[]>of(row));
+            return;
+        }
+        pendingRows().add(row);
+    }
+
+    // The current transaction's rows, registered on first use
+    @SuppressWarnings("unchecked")
+    private List<Object[]> pendingRows() {
+        List<Object[]> rows = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (rows != null) {
+            return rows;
+        }
+
+        List<Object[]> newRows = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, newRows);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                insert(newRows);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskOutbox.this);
+            }
+        });
+        return newRows;
+    }
+
+    private void insert(List<Object[]> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        rows.forEach(row -> row[3] = now);
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO task_outbox (task_id, event_type, payload, created_at) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.outbox;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.modules.tasks.stream.TaskChangeEvent.Type;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delivers task_outbox to the TaskEventSink every tasks.outbox.poll-interval (default 100ms), in batches of up
+ * to tasks.outbox.batch-size (default 500), oldest first. A full batch is followed straight away by the next,
+ * so a backlog drains at the sink's pace rather than the poll's.
+ *
+ * <p>Each batch is read, delivered and deleted in one transaction holding the task_outbox_relay row lock, so
+ * only one instance relays at a time and messages for a task reach the sink in the order they were committed.
+ * Delivery is at least once: if the sink fails, or the delete does not commit after it succeeded, the batch
+ * stays in the outbox and is sent again.
+ */
+@Component
+public class TaskOutboxRelay implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskOutboxRelay.class);
+
+    private static final RowMapper<OutboxMessage> MESSAGE_MAPPER = (rs, rowNum) -> new OutboxMessage(
+        rs.getLong("id"),
+        rs.getLong("task_id"),
+        Type.valueOf(rs.getString("event_type")),
+        rs.getString("payload"),
+        rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskEventSink sink;
+    private final int batchSize;
+
+    // Relays on this instance queue here rather than on the database lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile double lagSeconds;
+    private Timer deliveryDelay;
+
+    public TaskOutboxRelay(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        TaskEventSink sink,
+        @Value("${tasks.outbox.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sink = sink;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Deliver everything committed to the outbox so far. Public so tests can relay without waiting for the poll.
+     */
+    @Scheduled(fixedDelayString = "${tasks.outbox.poll-interval:100ms}")
+    public void relay() {
+        lock.lock();
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed != null && relayed == batchSize);
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            logger.warn("Task outbox relay failed, will retry: {}", e.getMessage(), e);
+        } finally {
+            updateLag();
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.outbox.lag", this, relay -> relay.lagSeconds)
+            .description("Age of the oldest undelivered outbox message when the relay last ran")
+            .baseUnit("seconds")
+            .register(registry);
+        FunctionCounter.builder("tasks.outbox.delivered", delivered, AtomicLong::get)
+            .description("Outbox messages delivered to the sink")
+            .register(registry);
+        FunctionCounter.builder("tasks.outbox.failures", failures, AtomicLong::get)
+            .description("Relay runs that stopped on an error and will retry")
+            .register(registry);
+        deliveryDelay = Timer.builder("tasks.outbox.delivery.delay")
+            .description("Time from a change being written to the outbox to its delivery")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    private int relayBatch() {
+        jdbcTemplate.queryForObject("SELECT id FROM task_outbox_relay WHERE id = 1 FOR UPDATE", Integer.class);
+        List<OutboxMessage> batch = jdbcTemplate.query(
+            "SELECT id, task_id, event_type, payload, created_at FROM task_outbox ORDER BY id LIMIT ?",
+            MESSAGE_MAPPER, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            sink.deliver(batch);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // By id rather than "id <= last": a lower id may belong to a transaction that has not committed yet
+        String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+        jdbcTemplate.update("DELETE FROM task_outbox WHERE id IN (" + placeholders + ")",
+                            batch.stream().map(OutboxMessage::id).toArray());
+
+        delivered.addAndGet(batch.size());
+        if (deliveryDelay != null) {
+            LocalDateTime now = LocalDateTime.now();
+            batch.forEach(message -> deliveryDelay.record(Duration.between(message.createdAt(), now)));
+        }
+        logger.debug("Relayed {} task outbox messages up to ID {}", batch.size(), batch.getLast().id());
+        return batch.size();
+    }
+
+    private void updateLag() {
+        try {
+            List<Timestamp> oldest = jdbcTemplate.queryForList(
+                "SELECT created_at FROM task_outbox ORDER BY id LIMIT 1", Timestamp.class);
+            lagSeconds = oldest.isEmpty()
+                ? 0
+                : Duration.between(oldest.getFirst().toLocalDateTime(), LocalDateTime.now()).toMillis() / 1000.0;
+        } catch (RuntimeException e) {
+            logger.debug("Could not read task outbox lag: {}", e.getMessage());
+        }
+    }
+}
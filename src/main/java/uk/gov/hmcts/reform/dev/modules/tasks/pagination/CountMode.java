@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.pagination;
+
+/**
+ * How a task listing works out its total count.
+ */
+public enum CountMode {
+    EXACT,      // Always run COUNT(*) - same as the default listing
+    ESTIMATED,  // Reuse a cached count for the same filters when one is available
+    NONE        // Skip the count entirely and only report whether another page exists
+}
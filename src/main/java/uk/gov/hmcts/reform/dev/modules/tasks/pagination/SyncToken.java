@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.InvalidTaskRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Delta sync position: the (changeSeq, taskId) in task_changes to read from next, inclusive. Encoded like
+ * TaskCursor, so clients treat it as opaque.
+ */
+@Getter
+@AllArgsConstructor
+public class SyncToken {
+
+    private static final String SEPARATOR = "|";
+
+    private final long changeSeq;
+    private final long taskId;
+
+    public String encode() {
+        String raw = changeSeq + SEPARATOR + taskId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token previously returned as nextToken.
+     * @param token The encoded token, or null/blank for a full sync
+     * @return The decoded position, or null if the client is starting from nothing
+     */
+    public static SyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                .split("\\" + SEPARATOR, -1);
+            if (parts.length != 2) {
+                throw new InvalidTaskRequestException("Invalid sync token: " + token);
+            }
+            long changeSeq = Long.parseLong(parts[0]);
+            long taskId = Long.parseLong(parts[1]);
+            if (changeSeq < 0 || taskId < 0) {
+                throw new InvalidTaskRequestException("Invalid sync token: " + token);
+            }
+            return new SyncToken(changeSeq, taskId);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException, as is bad Base64
+            throw new InvalidTaskRequestException("Invalid sync token: " + token);
+        }
+    }
+}
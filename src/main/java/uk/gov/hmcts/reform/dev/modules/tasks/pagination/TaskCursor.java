@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.InvalidTaskRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position for cursor pagination: the (dueDate, id) of the last task a client has seen.
+ * Clients only ever see the encoded form, so the layout can change without breaking the API.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime dueDate;
+    private final Long id;
+
+    public String encode() {
+        String raw = dueDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously returned as nextCursor.
+     * @param cursor The encoded cursor, or null/blank for the first page
+     * @return The decoded position, or null if the client is starting from the beginning
+     */
+    public static TaskCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidTaskRequestException("Invalid cursor: " + cursor);
+            }
+            LocalDateTime dueDate = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            // Never issued: due dates are read through DateTimeParser, with four-digit years
+            if (id < 0 || dueDate.getYear() < 1 || dueDate.getYear() > 9999) {
+                throw new InvalidTaskRequestException("Invalid cursor: " + cursor);
+            }
+            return new TaskCursor(dueDate, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // NumberFormatException is an IllegalArgumentException, as is bad Base64
+            throw new InvalidTaskRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
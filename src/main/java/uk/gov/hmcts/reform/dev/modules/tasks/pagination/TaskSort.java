@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.pagination;
+
+/**
+ * Ordering for offset-paged task listings.
+ */
+public enum TaskSort {
+    DUE_DATE,   // Earliest due date first - the default
+    RELEVANCE   // Best search match first (title prefix, then title, then description), then due date
+}
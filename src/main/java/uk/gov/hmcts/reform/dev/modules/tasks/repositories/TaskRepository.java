@@ -2,9 +2,26 @@ package uk.gov.hmcts.reform.dev.modules.tasks.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
 
+import java.util.Optional;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository
+    extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+
+    /**
+     * Just the version of a task, for answering If-None-Match without loading the whole row.
+     */
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * As findVersionById, for a task that may have been archived.
+     */
+    @Query("SELECT t.version FROM TaskWithArchive t WHERE t.id = :id")
+    Optional<Long> findVersionIncludingArchived(@Param("id") Long id);
 }
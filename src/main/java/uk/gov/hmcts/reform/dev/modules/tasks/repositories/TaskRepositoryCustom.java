@@ -0,0 +1,108 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.repositories;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Hand-written query fragments that Spring Data's derived methods can't express.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Fetch one page of tasks straight into DTOs, with a COUNT query for the total when it can't be
+     * worked out from the page itself. Rows are read as column tuples, so no entities are hydrated.
+     * @param entity Task, or TaskWithArchive to read archived tasks as well as live ones
+     */
+    <T> Page<ResponseDTO> findPage(Class<T> entity, Specification<T> spec, Pageable pageable);
+
+    /**
+     * Fetch one slice of tasks straight into DTOs without issuing a COUNT query.
+     * Reads size + 1 rows so hasNext() can be answered from the result itself.
+     * @param entity Task, or TaskWithArchive to read archived tasks as well as live ones
+     */
+    <T> Slice<ResponseDTO> findSlice(Class<T> entity, Specification<T> spec, Pageable pageable);
+
+    /**
+     * A task from either the tasks table or the archive, mapped straight to a DTO.
+     */
+    Optional<ResponseDTO> findIncludingArchived(Long id);
+
+    /**
+     * A task read from the tasks table rather than the second-level cache, mapped straight to a DTO.
+     * Its cache entry is evicted, for when that entry is known to be older than the row.
+     */
+    Optional<ResponseDTO> findCurrent(Long id);
+
+    /**
+     * IDs of up to limit tasks matching the Specification, without loading the entities.
+     */
+    List<Long> findIds(Specification<Task> spec, int limit);
+
+    /**
+     * Stream every matching task in (dueDate, id) order straight from a database cursor.
+     * Rows are read as column tuples and mapped to DTOs, so no entities enter the persistence context.
+     * The caller must close the stream, inside a transaction.
+     */
+    Stream<ResponseDTO> streamAll(Specification<Task> spec, int fetchSize);
+
+    /**
+     * Set the status of the given tasks in one UPDATE that hands back the rows as they were (H2's OLD TABLE),
+     * skipping tasks already in that status. Only those tasks are evicted from the second-level cache.
+     * @return One change per task changed
+     */
+    List<StatusChange> updateStatus(Collection<Long> ids, TaskStatus status);
+
+    /**
+     * Move the due date of the given tasks by the same amount in one UPDATE that hands back the rows as they were.
+     * Only those tasks are evicted from the second-level cache.
+     * @return The tasks changed, as they now are
+     */
+    List<Task> shiftDueDate(Collection<Long> ids, Duration shift);
+
+    /**
+     * Delete the given tasks in one DELETE that hands back the rows it removed (H2's OLD TABLE). A task deleted
+     * meanwhile by another transaction is not among them. Only those tasks are evicted from the second-level cache.
+     * @return The tasks deleted
+     */
+    List<DeletedTask> deleteByIds(Collection<Long> ids);
+
+    /**
+     * Set one task's status with a single UPDATE that hands back the row as it was (H2's OLD TABLE), so the task
+     * is never loaded first. With expectedVersion set, only a task still at that version is changed. A task
+     * already in that status keeps its updatedAt and version, as dirty checking would leave it.
+     * Only that task is evicted from the second-level cache.
+     * @return The change, or empty if no task matched
+     */
+    Optional<StatusChange> changeStatus(Long id, TaskStatus status, Long expectedVersion);
+
+    /**
+     * Delete one task with a single DELETE that hands back what the statistics need of it (H2's OLD TABLE),
+     * evicting only that task from the second-level cache.
+     * @return The deleted task, or empty if there was no such task
+     */
+    Optional<DeletedTask> deleteTask(Long id);
+
+    /**
+     * A status change made by changeStatus or updateStatus: the task as it now is, and the status it had before.
+     */
+    record StatusChange(Task task, TaskStatus previousStatus) {
+    }
+
+    /**
+     * What deleteTask or deleteByIds removed: the task's id, and the status and due date the statistics need.
+     */
+    record DeletedTask(Long id, TaskStatus status, LocalDateTime dueDate) {
+    }
+}
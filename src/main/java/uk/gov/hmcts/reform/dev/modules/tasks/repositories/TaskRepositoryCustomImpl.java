@@ -0,0 +1,373 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.repositories;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskWithArchive;
+import uk.gov.hmcts.reform.dev.modules.tasks.specifications.TaskSpecifications;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final Sort KEYSET_SORT = Sort.by("dueDate").ascending().and(Sort.by("id").ascending());
+    private static final String COLUMNS = "id, title, description, status, due_date, created_at, updated_at, version";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public <T> Page<ResponseDTO> findPage(Class<T> entity, Specification<T> spec, Pageable pageable) {
+        List<ResponseDTO> content = responseQuery(entity, spec, pageable.getSort())
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultStream()
+            .map(TaskRepositoryCustomImpl::toResponse)
+            .toList();
+
+        // Skips the COUNT when the page is the first or last one and not full, as Spring Data's findAll does
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entity, spec));
+    }
+
+    @Override
+    public <T> Slice<ResponseDTO> findSlice(Class<T> entity, Specification<T> spec, Pageable pageable) {
+        int pageSize = pageable.getPageSize();
+        List<ResponseDTO> results = responseQuery(entity, spec, pageable.getSort())
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageSize + 1)  // One extra row tells us whether another slice exists
+            .getResultStream()
+            .map(TaskRepositoryCustomImpl::toResponse)
+            .toList();
+
+        boolean hasNext = results.size() > pageSize;
+        List<ResponseDTO> content = hasNext ? results.subList(0, pageSize) : results;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public Optional<ResponseDTO> findIncludingArchived(Long id) {
+        return responseQuery(TaskWithArchive.class, TaskSpecifications.hasIdIn(List.of(id)), Sort.unsorted())
+            .getResultStream()
+            .findFirst()
+            .map(TaskRepositoryCustomImpl::toResponse);
+    }
+
+    @Override
+    public Optional<ResponseDTO> findCurrent(Long id) {
+        entityManager.getEntityManagerFactory().getCache().evict(Task.class, id);
+        return responseQuery(Task.class, TaskSpecifications.hasIdIn(List.of(id)), Sort.unsorted())
+            .getResultStream()
+            .findFirst()
+            .map(TaskRepositoryCustomImpl::toResponse);
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Task> spec, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(root.<Long>get("id"));
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<ResponseDTO> streamAll(Specification<Task> spec, int fetchSize) {
+        return responseQuery(Task.class, spec, KEYSET_SORT)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .getResultStream()
+            .map(TaskRepositoryCustomImpl::toResponse);
+    }
+
+    /**
+     * Select the ResponseDTO columns as a tuple rather than the entity. Without managed Tasks there is
+     * nothing to snapshot or dirty-check, and rows go straight to DTOs via toResponse.
+     * An unsorted Sort leaves any ordering the Specification applied (e.g. relevance).
+     */
+    private <T> TypedQuery<Tuple> responseQuery(Class<T> entity, Specification<T> spec, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<T> root = query.from(entity);
+        query.multiselect(
+            root.get("id"), root.get("title"), root.get("description"), root.get("status"),
+            root.get("dueDate"), root.get("createdAt"), root.get("updatedAt"), root.get("version")
+        );
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
+    private <T> long count(Class<T> entity, Specification<T> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<T> root = query.from(entity);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(criteriaBuilder.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static ResponseDTO toResponse(Tuple row) {
+        TaskStatus status = row.get(3, TaskStatus.class);
+        return new ResponseDTO(
+            row.get(0, Long.class),
+            row.get(1, String.class),
+            row.get(2, String.class),
+            status,
+            status.getDisplayValue(),
+            row.get(4, LocalDateTime.class),
+            row.get(5, LocalDateTime.class),
+            row.get(6, LocalDateTime.class),
+            row.get(7, Long.class)
+        );
+    }
+
+    @Override
+    public List<StatusChange> updateStatus(Collection<Long> ids, TaskStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        // Rows already in the target status are left alone, as dirty checking would for a single update
+        String sql = "SELECT " + COLUMNS + " FROM OLD TABLE (UPDATE tasks SET status = ?, updated_at = ?, "
+            + "version = version + 1 WHERE id IN (" + placeholders(ids) + ") AND status <> ?)";
+
+        List<Task> previous = executeNative(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                statement.setString(index++, status.name());
+                statement.setObject(index++, now);
+                for (Long id : ids) {
+                    statement.setLong(index++, id);
+                }
+                statement.setString(index, status.name());
+                return toTasks(statement);
+            }
+        });
+
+        List<StatusChange> changes = new ArrayList<>(previous.size());
+        for (Task task : previous) {
+            TaskStatus previousStatus = task.getStatus();
+            task.setStatus(status);
+            task.setUpdatedAt(now);
+            task.setVersion(task.getVersion() + 1);
+            changes.add(new StatusChange(task, previousStatus));
+        }
+        evict(previous.stream().map(Task::getId).toList());
+        return changes;
+    }
+
+    @Override
+    public List<Task> shiftDueDate(Collection<Long> ids, Duration shift) {
+        LocalDateTime now = LocalDateTime.now();
+        // Nanoseconds, as Hibernate's own duration arithmetic uses
+        String sql = "SELECT " + COLUMNS + " FROM OLD TABLE (UPDATE tasks SET due_date = DATEADD(NANOSECOND, ?, "
+            + "due_date), updated_at = ?, version = version + 1 WHERE id IN (" + placeholders(ids) + "))";
+
+        List<Task> tasks = executeNative(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                statement.setLong(index++, shift.toNanos());
+                statement.setObject(index++, now);
+                for (Long id : ids) {
+                    statement.setLong(index++, id);
+                }
+                return toTasks(statement);
+            }
+        });
+
+        for (Task task : tasks) {
+            task.setDueDate(task.getDueDate().plus(shift));
+            task.setUpdatedAt(now);
+            task.setVersion(task.getVersion() + 1);
+        }
+        evict(tasks.stream().map(Task::getId).toList());
+        return tasks;
+    }
+
+    @Override
+    public List<DeletedTask> deleteByIds(Collection<Long> ids) {
+        String sql = "SELECT id, status, due_date FROM OLD TABLE (DELETE FROM tasks WHERE id IN ("
+            + placeholders(ids) + "))";
+
+        List<DeletedTask> deleted = executeNative(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                for (Long id : ids) {
+                    statement.setLong(index++, id);
+                }
+                List<DeletedTask> rows = new ArrayList<>();
+                try (ResultSet row = statement.executeQuery()) {
+                    while (row.next()) {
+                        rows.add(toDeletedTask(row));
+                    }
+                }
+                return rows;
+            }
+        });
+        evict(deleted.stream().map(DeletedTask::id).toList());
+        return deleted;
+    }
+
+    @Override
+    public Optional<StatusChange> changeStatus(Long id, TaskStatus status, Long expectedVersion) {
+        LocalDateTime now = LocalDateTime.now();
+        // Right-hand sides read the row as it was, so an unchanged status leaves updated_at and version alone
+        String sql = "SELECT " + COLUMNS + " FROM OLD TABLE (UPDATE tasks SET status = ?, "
+            + "updated_at = CASE WHEN status = ? THEN updated_at ELSE ? END, "
+            + "version = CASE WHEN status = ? THEN version ELSE version + 1 END "
+            + "WHERE id = ?" + (expectedVersion == null ? "" : " AND version = ?") + ")";
+
+        Optional<Task> previous = executeNative(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, status.name());
+                statement.setString(2, status.name());
+                statement.setObject(3, now);
+                statement.setString(4, status.name());
+                statement.setLong(5, id);
+                if (expectedVersion != null) {
+                    statement.setLong(6, expectedVersion);
+                }
+                try (ResultSet row = statement.executeQuery()) {
+                    return row.next() ? Optional.of(toTask(row)) : Optional.empty();
+                }
+            }
+        });
+        if (previous.isEmpty()) {
+            return Optional.empty();
+        }
+
+        evict(id);
+        Task task = previous.get();
+        TaskStatus previousStatus = task.getStatus();
+        if (previousStatus != status) {
+            task.setStatus(status);
+            task.setUpdatedAt(now);
+            task.setVersion(task.getVersion() + 1);
+        }
+        return Optional.of(new StatusChange(task, previousStatus));
+    }
+
+    @Override
+    public Optional<DeletedTask> deleteTask(Long id) {
+        String sql = "SELECT id, status, due_date FROM OLD TABLE (DELETE FROM tasks WHERE id = ?)";
+        Optional<DeletedTask> deleted = executeNative(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, id);
+                try (ResultSet row = statement.executeQuery()) {
+                    return row.next() ? Optional.of(toDeletedTask(row)) : Optional.empty();
+                }
+            }
+        });
+        deleted.ifPresent(task -> evict(id));
+        return deleted;
+    }
+
+    private static DeletedTask toDeletedTask(ResultSet row) throws SQLException {
+        return new DeletedTask(
+            row.getLong("id"),
+            TaskStatus.valueOf(row.getString("status")),
+            row.getObject("due_date", LocalDateTime.class)
+        );
+    }
+
+    private static Task toTask(ResultSet row) throws SQLException {
+        return new Task(
+            row.getLong("id"),
+            row.getString("title"),
+            row.getString("description"),
+            TaskStatus.valueOf(row.getString("status")),
+            row.getObject("due_date", LocalDateTime.class),
+            row.getObject("created_at", LocalDateTime.class),
+            row.getObject("updated_at", LocalDateTime.class),
+            row.getLong("version")
+        );
+    }
+
+    private static List<Task> toTasks(PreparedStatement statement) throws SQLException {
+        List<Task> tasks = new ArrayList<>();
+        try (ResultSet row = statement.executeQuery()) {
+            while (row.next()) {
+                tasks.add(toTask(row));
+            }
+        }
+        return tasks;
+    }
+
+    private static String placeholders(Collection<Long> ids) {
+        return String.join(", ", Collections.nCopies(ids.size(), "?"));
+    }
+
+    private void evict(Long id) {
+        evict(List.of(id));
+    }
+
+    // Native statements skip Hibernate's cache maintenance. Evict the entries now, and again once the transaction
+    // ends, so a read that loaded an old row before the commit cannot leave it cached (as TaskResponseCache does)
+    private void evict(Collection<Long> ids) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        ids.forEach(id -> cache.evict(Task.class, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ids.forEach(id -> cache.evict(Task.class, id));
+                }
+            });
+        }
+    }
+
+    // Statements Criteria cannot express (delta tables) run on the session's own connection. They bypass the
+    // persistence context: flush pending changes first so they are not lost, and clear afterwards so no stale
+    // managed Task is read back in the same transaction
+    private <T> T executeNative(ReturningWork<T> work) {
+        entityManager.flush();
+        T result = entityManager.unwrap(Session.class).doReturningWork(work);
+        entityManager.clear();
+        return result;
+    }
+}
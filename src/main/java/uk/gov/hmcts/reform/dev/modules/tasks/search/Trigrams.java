@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits text into overlapping, lower-cased three-character sequences.
+ * If a text contains a search term as a substring, it contains every trigram of that term,
+ * so intersecting trigram postings gives a candidate set with no false negatives.
+ */
+public final class Trigrams {
+
+    // Bounds the IN list for long search terms
+    static final int MAX_QUERY_TRIGRAMS = 16;
+
+    private Trigrams() {
+    }
+
+    /**
+     * All distinct trigrams in a piece of indexed text.
+     * @param text Title or description, may be null
+     * @return Distinct trigrams, empty for null or text shorter than three characters
+     */
+    public static Set<String> of(String text) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        if (text == null) {
+            return trigrams;
+        }
+
+        String lowered = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i + 3 <= lowered.length(); i++) {
+            trigrams.add(lowered.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Trigrams to look up for a search term, capped at MAX_QUERY_TRIGRAMS evenly spaced ones.
+     * Dropping some only widens the candidate set; the LIKE recheck still filters exactly.
+     * @param searchText The user's search term
+     * @return Trigrams to intersect, empty if the term is too short to use the index
+     */
+    public static Set<String> forQuery(String searchText) {
+        Set<String> all = of(searchText);
+        if (all.size() <= MAX_QUERY_TRIGRAMS) {
+            return all;
+        }
+
+        String[] ordered = all.toArray(new String[0]);
+        Set<String> sampled = new LinkedHashSet<>();
+        for (int i = 0; i < MAX_QUERY_TRIGRAMS; i++) {
+            sampled.add(ordered[i * (ordered.length - 1) / (MAX_QUERY_TRIGRAMS - 1)]);
+        }
+        return sampled;
+    }
+}
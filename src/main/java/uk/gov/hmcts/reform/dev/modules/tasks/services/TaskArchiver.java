@@ -0,0 +1,159 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.services;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.modules.tasks.cache.TaskResponseCache;
+import uk.gov.hmcts.reform.dev.modules.tasks.repositories.TaskRepository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Moves completed tasks that have not changed for tasks.archive.min-age (default 90d) from tasks to tasks_archive
+ * every tasks.archive.interval (default 1h), so listings, counts and the search index only carry live work.
+ * Archived tasks are read-only and are only returned by reads with includeArchived=true.
+ *
+ * <p>Tasks are moved in batches of tasks.archive.batch-size (default 500), oldest change first along
+ * idx_tasks_updated_at, each batch in its own short transaction: the rows are locked, copied and deleted together,
+ * so a task is never in both tables or neither, and a write to it waits for at most one batch. A task reopened
+ * before its batch locks it no longer matches and stays where it is.
+ *
+ * <p>Archiving is not a change to the task: no event is published and delta sync does not report it as deleted.
+ * Its row in task_changes is dropped with it.
+ * The list ETag, counts and GET /api/tasks/stats move on, as the task has left the default listings.
+ */
+@Component
+public class TaskArchiver implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskRepository taskRepository;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskStatistics taskStatistics;
+    private final TaskCountCache taskCountCache;
+    private final TaskChangeCounter taskChangeCounter;
+    private final TaskResponseCache taskResponseCache;
+    private final Duration minAge;
+    private final int batchSize;
+
+    // Runs on this instance queue here rather than on the row locks
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong archived = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public TaskArchiver(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        TaskRepository taskRepository,
+        TaskSearchIndex taskSearchIndex,
+        TaskStatistics taskStatistics,
+        TaskCountCache taskCountCache,
+        TaskChangeCounter taskChangeCounter,
+        TaskResponseCache taskResponseCache,
+        @Value("${tasks.archive.min-age:90d}") Duration minAge,
+        @Value("${tasks.archive.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskRepository = taskRepository;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskStatistics = taskStatistics;
+        this.taskCountCache = taskCountCache;
+        this.taskChangeCounter = taskChangeCounter;
+        this.taskResponseCache = taskResponseCache;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Archive every task that is due to be archived. Public so tests can archive without waiting for the interval.
+     * @return Number of tasks archived
+     */
+    @Scheduled(
+        initialDelayString = "${tasks.archive.initial-delay:1m}",
+        fixedDelayString = "${tasks.archive.interval:1h}"
+    )
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        int total = 0;
+        lock.lock();
+        try {
+            Integer moved;
+            do {
+                moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+                total += moved == null ? 0 : moved;
+            } while (moved != null && moved == batchSize);
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            logger.warn("Task archiving stopped after {} tasks, will retry: {}", total, e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+
+        if (total > 0) {
+            logger.info("Archived {} tasks completed before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("tasks.archive.archived", archived, AtomicLong::get)
+            .description("Completed tasks moved to tasks_archive")
+            .register(registry);
+        FunctionCounter.builder("tasks.archive.failures", failures, AtomicLong::get)
+            .description("Archive runs that stopped on an error and will retry")
+            .register(registry);
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(
+            "SELECT id FROM tasks WHERE updated_at < ? AND status = 'COMPLETED' ORDER BY updated_at, id LIMIT ? "
+                + "FOR UPDATE",
+            Long.class, Timestamp.valueOf(cutoff), batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.addAll(ids);
+        jdbcTemplate.update(
+            "INSERT INTO tasks_archive (id, title, description, status, due_date, created_at, updated_at, version, "
+                + "archived_at) SELECT id, title, description, status, due_date, created_at, updated_at, version, ? "
+                + "FROM tasks WHERE id IN (" + placeholders + ")",
+            args.toArray());
+        // Through the repository rather than JDBC, so Hibernate evicts the rows from the second-level cache
+        taskRepository.deleteByIds(ids);
+        // Delta sync neither reports the task as deleted nor keeps its last change
+        jdbcTemplate.update("DELETE FROM task_changes WHERE task_id IN (" + placeholders + ")", ids.toArray());
+
+        taskSearchIndex.remove(ids);
+        taskStatistics.archived(ids.size());
+        taskCountCache.invalidate();
+        taskChangeCounter.increment();
+        ids.forEach(taskResponseCache::invalidate);
+
+        archived.addAndGet(ids.size());
+        logger.debug("Archived a batch of {} tasks", ids.size());
+        return ids.size();
+    }
+}
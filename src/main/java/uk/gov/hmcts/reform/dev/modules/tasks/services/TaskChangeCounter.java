@@ -0,0 +1,122 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.services;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Database-wide count of committed changes to tasks, kept in the single-row task_change_counter table.
+ * Every TaskService write moves it on; list endpoints use current() as their ETag, so a poll that
+ * finds the counter unchanged can be answered with 304 without running the filter or count queries.
+ *
+ * <p>The counter lives in the database rather than in memory so a write on any instance is seen by all.
+ * It is bumped in the same transaction as the write, so it only moves once that write is visible.
+ * The bump runs just before commit and at most once per transaction, which keeps the lock on the row short.
+ *
+ * <p>The row stays locked from the bump until commit, so transactions take counter values in the order they
+ * commit. Each task a transaction changed or deleted is written to task_changes with the value it took, which
+ * gives delta sync (TaskSyncService) a position that no later commit can fall behind.
+ */
+@Component
+public class TaskChangeCounter {
+
+    private static final String RECORD_CHANGE =
+        "MERGE INTO task_changes (task_id, change_seq, deleted_at) KEY (task_id) VALUES (?, ?, ?)";
+    private static final int[] RECORD_CHANGE_TYPES = {Types.BIGINT, Types.BIGINT, Types.TIMESTAMP};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskChangeCounter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long current() {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT change_count FROM task_change_counter WHERE id = 1", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Record that the current transaction changed tasks without naming them, as archiving does; delta sync is
+     * not told. Outside a transaction the counter moves at once.
+     */
+    public void increment() {
+        record(List.of(), false);
+    }
+
+    /**
+     * Record that the current transaction created or updated these tasks.
+     */
+    public void changed(Collection<Long> ids) {
+        record(ids, false);
+    }
+
+    /**
+     * Record that the current transaction deleted these tasks.
+     */
+    public void deleted(Collection<Long> ids) {
+        record(ids, true);
+    }
+
+    private void record(Collection<Long> ids, boolean deleted) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<Long, Boolean> change = new LinkedHashMap<>();
+            ids.forEach(id -> change.put(id, deleted));
+            bump(change);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Long, Boolean> pending = (Map<Long, Boolean>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = registerPending();
+        }
+        // A task's last change in the transaction wins, e.g. a delete after an update
+        for (Long id : ids) {
+            pending.put(id, deleted);
+        }
+    }
+
+    private Map<Long, Boolean> registerPending() {
+        Map<Long, Boolean> pending = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                bump(pending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskChangeCounter.this);
+            }
+        });
+        return pending;
+    }
+
+    // Task id to whether it was deleted
+    private void bump(Map<Long, Boolean> changes) {
+        Long changeSeq = jdbcTemplate.queryForObject(
+            "SELECT change_count FROM FINAL TABLE "
+                + "(UPDATE task_change_counter SET change_count = change_count + 1 WHERE id = 1)",
+            Long.class);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        changes.forEach((id, deleted) -> rows.add(new Object[] {id, changeSeq, deleted ? now : null}));
+        jdbcTemplate.batchUpdate(RECORD_CHANGE, rows, RECORD_CHANGE_TYPES);
+    }
+}
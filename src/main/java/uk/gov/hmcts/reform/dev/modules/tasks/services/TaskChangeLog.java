@@ -0,0 +1,83 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Each task's latest change in task_changes, read in commit order by delta sync. TaskChangeCounter writes the
+ * rows just before each transaction commits. Rows for deleted tasks are purged once older than
+ * tasks.changes.tombstone-retention (default 30d), and sync tokens from before them are then refused.
+ */
+@Component
+public class TaskChangeLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeLog.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+
+    public TaskChangeLog(
+        JdbcTemplate jdbcTemplate,
+        @Value("${tasks.changes.tombstone-retention:30d}") Duration retention
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+    }
+
+    /**
+     * Changes at or after (changeSeq, taskId) and at or before upTo, in that order.
+     */
+    public List<TaskChange> findBetween(long changeSeq, long taskId, long upTo, int limit) {
+        return jdbcTemplate.query(
+            "SELECT task_id, change_seq, deleted_at FROM task_changes "
+                + "WHERE change_seq >= ? AND change_seq <= ? AND (change_seq > ? OR task_id >= ?) "
+                + "ORDER BY change_seq, task_id LIMIT ?",
+            (rs, rowNum) -> new TaskChange(
+                rs.getLong("task_id"), rs.getLong("change_seq"), rs.getTimestamp("deleted_at") != null),
+            changeSeq, upTo, changeSeq, taskId, limit);
+    }
+
+    /**
+     * Lowest change_seq a sync token may resume from; the deletes before it may have been purged.
+     * Read after the changes themselves, as the purge moves it in the same transaction as its DELETE.
+     */
+    public long resumableFrom() {
+        Long changeSeq = jdbcTemplate.queryForObject(
+            "SELECT resumable_from FROM task_change_counter WHERE id = 1", Long.class);
+        return changeSeq == null ? 0 : changeSeq;
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.changes.purge-interval:1h}")
+    @Transactional
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        Long purgedTo = jdbcTemplate.queryForObject(
+            "SELECT MAX(change_seq) FROM task_changes WHERE deleted_at < ?", Long.class, cutoff);
+        if (purgedTo == null) {
+            return;
+        }
+
+        int purged = jdbcTemplate.update(
+            "DELETE FROM task_changes WHERE change_seq <= ? AND deleted_at IS NOT NULL", purgedTo);
+        // Last, so the counter row is locked only briefly
+        jdbcTemplate.update(
+            "UPDATE task_change_counter SET resumable_from = GREATEST(resumable_from, ?) WHERE id = 1",
+            purgedTo + 1);
+        logger.info("Purged {} deleted tasks from task_changes older than {}", purged, retention);
+    }
+
+    /**
+     * A task's latest change: the counter value its transaction took, and whether it was a delete.
+     */
+    public record TaskChange(Long taskId, long changeSeq, boolean deleted) {
+    }
+}
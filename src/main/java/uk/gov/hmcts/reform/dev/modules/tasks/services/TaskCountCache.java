@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches listing totals by filter shape so repeated searches can skip their COUNT(*) query.
+ * Every write clears the cache, and clears it again once the surrounding transaction ends
+ * so a count read from uncommitted (or rolled back) data never outlives it. Entries also expire
+ * after a TTL, which bounds staleness from writes made by other instances.
+ */
+@Component
+public class TaskCountCache {
+
+    private final Map<FilterKey, CachedCount> counts = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public TaskCountCache(
+        @Value("${tasks.count-cache.ttl:30s}") Duration ttl,
+        @Value("${tasks.count-cache.max-entries:1000}") int maxEntries
+    ) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Current write generation. Capture this before running a count and pass it to put(),
+     * so a count that raced with a write is discarded rather than cached.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public OptionalLong get(TaskStatus status, String search, LocalDateTime dueDateFrom, LocalDateTime dueDateTo) {
+        CachedCount cached = counts.get(new FilterKey(status, normalise(search), dueDateFrom, dueDateTo));
+        if (cached == null || System.nanoTime() - cached.cachedAt() > ttlNanos) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(cached.count());
+    }
+
+    public void put(
+        TaskStatus status,
+        String search,
+        LocalDateTime dueDateFrom,
+        LocalDateTime dueDateTo,
+        long count,
+        long readGeneration
+    ) {
+        if (readGeneration != generation.get()) {
+            return;  // A write happened while we were counting
+        }
+        if (counts.size() >= maxEntries) {
+            counts.clear();  // Crude but bounded - free-text searches make the key space unbounded
+        }
+        counts.put(new FilterKey(status, normalise(search), dueDateFrom, dueDateTo),
+                   new CachedCount(count, System.nanoTime()));
+    }
+
+    public void invalidate() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        counts.clear();
+    }
+
+    // Search matching is case-insensitive, so "Review" and "review" share a count
+    private static String normalise(String search) {
+        return search == null || search.isBlank() ? null : search.toLowerCase(Locale.ROOT);
+    }
+
+    private record FilterKey(TaskStatus status, String search, LocalDateTime dueDateFrom, LocalDateTime dueDateTo) {
+    }
+
+    private record CachedCount(long count, long cachedAt) {
+    }
+}
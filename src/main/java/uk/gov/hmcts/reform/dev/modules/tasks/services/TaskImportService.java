@@ -0,0 +1,204 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.CreationDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ImportResultDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.RejectedRowDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.InvalidTaskRequestException;
+import uk.gov.hmcts.reform.dev.modules.tasks.io.CsvRowReader;
+import uk.gov.hmcts.reform.dev.modules.tasks.io.TaskFileFormat;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports tasks from an uploaded NDJSON or CSV stream.
+ * The input is parsed one row at a time and valid rows are saved batchSize at a time, each batch in its own
+ * transaction through TaskService.createValidatedTasks, so memory is bounded by one batch whatever the file size.
+ * Each row is validated once, here, and its task built straight away; the save does not validate it again.
+ * Invalid rows are skipped and reported; they never stop the rest of the file from importing.
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskImportService.class);
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final TaskService taskService;
+    private final Validator validator;
+    private final ObjectReader creationReader;
+    private final int batchSize;
+    private final int maxReportedRejections;
+
+    public TaskImportService(
+        TaskService taskService,
+        Validator validator,
+        ObjectMapper objectMapper,
+        @Value("${tasks.import.batch-size:1000}") int batchSize,
+        @Value("${tasks.import.max-reported-rejections:100}") int maxReportedRejections
+    ) {
+        this.taskService = taskService;
+        this.validator = validator;
+        this.creationReader = objectMapper.readerFor(CreationDTO.class);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("tasks.import.batch-size must be at least 1, was " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    public ImportResultDTO importTasks(TaskFileFormat format, InputStream input) throws IOException {
+        logger.info("Importing tasks from {} upload", format);
+        BufferedReader reader =
+            new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+
+        Progress progress = new Progress();
+        if (format == TaskFileFormat.CSV) {
+            readCsv(reader, progress);
+        } else {
+            readNdjson(reader, progress);
+        }
+        progress.flush();
+
+        logger.info("Import finished - rows read: {}, imported: {}, rejected: {}",
+                    progress.rowsRead, progress.imported, progress.rejected);
+        return new ImportResultDTO(
+            progress.rowsRead,
+            progress.imported,
+            progress.rejected,
+            progress.rejectedRows,
+            progress.rejected > progress.rejectedRows.size()
+        );
+    }
+
+    private void readNdjson(BufferedReader reader, Progress progress) throws IOException {
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                CreationDTO dto = creationReader.readValue(line);
+                if (dto == null) {
+                    // A literal null line; numbers, strings and arrays already fail to bind
+                    progress.reject(lineNumber, Map.of("row", "Expected a JSON object"));
+                } else {
+                    progress.accept(lineNumber, dto);
+                }
+            } catch (JsonProcessingException e) {
+                progress.reject(lineNumber, Map.of("row", "Malformed JSON: " + e.getOriginalMessage()));
+            }
+        }
+    }
+
+    private void readCsv(BufferedReader reader, Progress progress) throws IOException {
+        CsvRowReader csv = new CsvRowReader(reader);
+        CsvRowReader.Row header = csv.next();
+        if (header == null) {
+            return;  // Empty upload
+        }
+
+        // Columns are matched by name, so extra ones (e.g. from an export) are ignored
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.fields().size(); i++) {
+            columns.put(header.fields().get(i).trim(), i);
+        }
+        if (!columns.containsKey("title") || !columns.containsKey("dueDate")) {
+            throw new InvalidTaskRequestException("CSV header must include title and dueDate columns");
+        }
+        int title = columns.get("title");
+        int dueDate = columns.get("dueDate");
+        int description = columns.getOrDefault("description", -1);
+
+        CsvRowReader.Row row;
+        while ((row = csv.next()) != null) {
+            if (row.error() != null) {
+                progress.reject(row.line(), Map.of("row", row.error()));
+                continue;
+            }
+            List<String> fields = row.fields();
+            progress.accept(row.line(), new CreationDTO(
+                field(fields, title),
+                field(fields, description),
+                field(fields, dueDate)
+            ));
+        }
+    }
+
+    // Missing trailing fields and empty fields both read as null, so @NotBlank/@NotNull report them
+    private static String field(List<String> fields, int index) {
+        if (index < 0 || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    /**
+     * Running totals for one import, plus the batch of valid rows waiting to be saved.
+     */
+    private final class Progress {
+        private final List<Task> batch = new ArrayList<>(batchSize);
+        private final List<RejectedRowDTO> rejectedRows = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long rejected;
+
+        void accept(long line, CreationDTO dto) {
+            rowsRead++;
+            Map<String, String> errors = new LinkedHashMap<>();
+            for (ConstraintViolation<CreationDTO> violation : validator.validate(dto)) {
+                errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+            }
+            if (!errors.isEmpty()) {
+                recordRejection(line, errors);
+                return;
+            }
+
+            batch.add(TaskService.newTask(dto));
+            if (batch.size() == batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long line, Map<String, String> errors) {
+            rowsRead++;
+            recordRejection(line, errors);
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            imported += taskService.createValidatedTasks(batch).size();
+            batch.clear();
+            logger.info("Import progress - rows read: {}, imported: {}, rejected: {}", rowsRead, imported, rejected);
+        }
+
+        private void recordRejection(long line, Map<String, String> errors) {
+            rejected++;
+            if (rejectedRows.size() < maxReportedRejections) {
+                rejectedRows.add(new RejectedRowDTO(line, errors));
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+import uk.gov.hmcts.reform.dev.modules.tasks.search.Trigrams;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maintains the task_trigrams inverted index used by TaskSpecifications.searchByText.
+ * Writes go through JdbcTemplate so they join the caller's JPA transaction and are batched,
+ * rather than paying an entity merge per posting.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndex.class);
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Replace the index entries for a single task. The task must already have an ID.
+     */
+    public void index(Task task) {
+        index(List.of(task));
+    }
+
+    /**
+     * Replace the index entries for several tasks using one batched DELETE and one batched INSERT.
+     */
+    public void index(Collection<Task> tasks) {
+        List<Object[]> deletes = new ArrayList<>(tasks.size());
+        List<Object[]> postings = new ArrayList<>();
+        for (Task task : tasks) {
+            deletes.add(new Object[] {task.getId()});
+            for (String trigram : trigramsOf(task.getTitle(), task.getDescription())) {
+                postings.add(new Object[] {trigram, task.getId()});
+            }
+        }
+
+        jdbcTemplate.batchUpdate("DELETE FROM task_trigrams WHERE task_id = ?", deletes);
+        if (!postings.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO task_trigrams (trigram, task_id) VALUES (?, ?)", postings);
+        }
+    }
+
+    public void remove(Long taskId) {
+        jdbcTemplate.update("DELETE FROM task_trigrams WHERE task_id = ?", taskId);
+    }
+
+    public void remove(Collection<Long> taskIds) {
+        List<Object[]> deletes = taskIds.stream().map(taskId -> new Object[] {taskId}).toList();
+        jdbcTemplate.batchUpdate("DELETE FROM task_trigrams WHERE task_id = ?", deletes);
+    }
+
+    /**
+     * Index any tasks that have no postings yet, e.g. rows inserted by migrations or seed scripts.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexMissing() {
+        List<Task> pending = new ArrayList<>();
+        int[] indexed = {0};
+
+        jdbcTemplate.query(
+            "SELECT t.id, t.title, t.description FROM tasks t "
+                + "WHERE NOT EXISTS (SELECT 1 FROM task_trigrams g WHERE g.task_id = t.id)",
+            (RowCallbackHandler) resultSet -> {
+                Task task = new Task();
+                task.setId(resultSet.getLong("id"));
+                task.setTitle(resultSet.getString("title"));
+                task.setDescription(resultSet.getString("description"));
+                pending.add(task);
+
+                if (pending.size() == REBUILD_BATCH_SIZE) {
+                    index(pending);
+                    indexed[0] += pending.size();
+                    pending.clear();
+                }
+            }
+        );
+
+        if (!pending.isEmpty()) {
+            index(pending);
+            indexed[0] += pending.size();
+        }
+        if (indexed[0] > 0) {
+            logger.info("Indexed {} tasks missing from the search index", indexed[0]);
+        }
+    }
+
+    // Title and description are indexed separately so no trigram spans the two
+    private static Set<String> trigramsOf(String title, String description) {
+        Set<String> trigrams = new LinkedHashSet<>(Trigrams.of(title));
+        trigrams.addAll(Trigrams.of(description));
+        return trigrams;
+    }
+}
@@ -1,59 +1,204 @@
 package uk.gov.hmcts.reform.dev.modules.tasks.services;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.modules.tasks.cache.TaskResponseCache;
+import uk.gov.hmcts.reform.dev.modules.tasks.deadlines.TaskDeadlineScheduler;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkDeleteDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkRescheduleDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkResultDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkStatusDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.CreationDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.CursorPageDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskFilterDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskPageDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskStatsDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.UpdateDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.UpdateStatusDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.BatchValidationException;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.InvalidTaskRequestException;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.StaleTaskException;
 import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.TaskNotFoundException;
 import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
 import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskWithArchive;
+import uk.gov.hmcts.reform.dev.modules.tasks.outbox.TaskOutbox;
+import uk.gov.hmcts.reform.dev.modules.tasks.pagination.CountMode;
+import uk.gov.hmcts.reform.dev.modules.tasks.pagination.TaskCursor;
 import uk.gov.hmcts.reform.dev.modules.tasks.repositories.TaskRepository;
+import uk.gov.hmcts.reform.dev.modules.tasks.repositories.TaskRepositoryCustom.DeletedTask;
+import uk.gov.hmcts.reform.dev.modules.tasks.repositories.TaskRepositoryCustom.StatusChange;
 import uk.gov.hmcts.reform.dev.modules.tasks.specifications.TaskSpecifications;
+import uk.gov.hmcts.reform.dev.modules.tasks.stream.TaskChangeFeed;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 @Service
+@Timed(value = "tasks.service", description = "TaskService operations, tagged by method and exception")
 public class TaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
-    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    // id breaks ties between tasks sharing a due date, so every task has exactly one position
+    private static final Sort KEYSET_SORT = Sort.by("dueDate").ascending().and(Sort.by("id").ascending());
+    private static final int MAX_BATCH_SIZE = 1000;
+    // Bounds the ids a filtered bulk operation holds, and the outbox messages, tombstones and evictions they cause
+    static final int MAX_BULK_SIZE = 10_000;
 
     private final TaskRepository taskRepository;
+    private final TaskCountCache taskCountCache;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskResponseCache taskResponseCache;
+    private final TaskChangeCounter taskChangeCounter;
+    private final TaskStatistics taskStatistics;
+    private final TaskDeadlineScheduler taskDeadlines;
+    private final TaskChangeFeed taskChangeFeed;
+    private final TaskOutbox taskOutbox;
+    private final Validator validator;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(
+        TaskRepository taskRepository,
+        TaskCountCache taskCountCache,
+        TaskSearchIndex taskSearchIndex,
+        TaskResponseCache taskResponseCache,
+        TaskChangeCounter taskChangeCounter,
+        TaskStatistics taskStatistics,
+        TaskDeadlineScheduler taskDeadlines,
+        TaskChangeFeed taskChangeFeed,
+        TaskOutbox taskOutbox,
+        Validator validator
+    ) {
         this.taskRepository = taskRepository;
+        this.taskCountCache = taskCountCache;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskResponseCache = taskResponseCache;
+        this.taskChangeCounter = taskChangeCounter;
+        this.taskStatistics = taskStatistics;
+        this.taskDeadlines = taskDeadlines;
+        this.taskChangeFeed = taskChangeFeed;
+        this.taskOutbox = taskOutbox;
+        this.validator = validator;
     }
 
-    private LocalDateTime parseDateTime(String dateTimeString) {
-        return LocalDateTime.parse(dateTimeString, DATE_TIME_FORMATTER);
-    }
-
+    @Transactional
     public ResponseDTO createTask(CreationDTO dto) {
         logger.info("Creating task with title: {}", dto.getTitle());
 
         try {
-            Task task = new Task();
-            task.setTitle(dto.getTitle());
-            task.setDescription(dto.getDescription());
-            task.setStatus(TaskStatus.PENDING);
-            task.setDueDate(parseDateTime(dto.getDueDate()));
+            Task task = newTask(dto);
 
             Task savedTask = taskRepository.save(task);
+            taskSearchIndex.index(savedTask);
+            taskStatistics.added(savedTask);
+            taskDeadlines.scheduled(savedTask);
+            taskCountCache.invalidate();
+            taskChangeCounter.changed(List.of(savedTask.getId()));
             logger.info("Task created successfully with ID: {}", savedTask.getId());
-            return ResponseDTO.fromTask(savedTask);
+            ResponseDTO response = ResponseDTO.fromTask(savedTask);
+            taskOutbox.created(response);
+            taskChangeFeed.created(response);
+            return response;
         } catch (Exception e) {
             logger.error("Error creating task: {}", e.getMessage(), e);
             throw e;
         }
     }
 
+    /**
+     * Validate and create a batch of tasks in one transaction. Every item is checked before anything is
+     * written, so a batch is saved whole or not at all. Ids come from the pooled task_id_seq, which lets
+     * Hibernate send the INSERTs as JDBC batches instead of one round-trip per task.
+     */
+    @Transactional
+    public List<ResponseDTO> createTasks(List<CreationDTO> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new InvalidTaskRequestException("Batch must contain at least one task");
+        }
+        if (dtos.size() > MAX_BATCH_SIZE) {
+            throw new InvalidTaskRequestException("Batch must not contain more than " + MAX_BATCH_SIZE + " tasks");
+        }
+        logger.info("Creating batch of {} tasks", dtos.size());
+
+        Map<String, String> validationErrors = new LinkedHashMap<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            CreationDTO dto = dtos.get(i);
+            if (dto == null) {
+                validationErrors.put("[" + i + "]", "Task is required");
+                continue;
+            }
+            for (ConstraintViolation<CreationDTO> violation : validator.validate(dto)) {
+                validationErrors.put("[" + i + "]." + violation.getPropertyPath(), violation.getMessage());
+            }
+        }
+        if (!validationErrors.isEmpty()) {
+            throw new BatchValidationException(validationErrors);
+        }
+
+        List<Task> tasks = new ArrayList<>(dtos.size());
+        for (CreationDTO dto : dtos) {
+            tasks.add(newTask(dto));
+        }
+        return saveNewTasks(tasks);
+    }
+
+    /**
+     * Save tasks built by newTask from rows the caller has already validated, in one transaction.
+     * Used by TaskImportService, which validates each row as it is read; nothing is checked again here,
+     * and there is no limit on the number of tasks beyond the caller's own batch size.
+     */
+    @Transactional
+    public List<ResponseDTO> createValidatedTasks(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+        return saveNewTasks(tasks);
+    }
+
+    private List<ResponseDTO> saveNewTasks(List<Task> tasks) {
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        taskSearchIndex.index(savedTasks);
+        savedTasks.forEach(taskStatistics::added);
+        savedTasks.forEach(taskDeadlines::scheduled);
+        taskCountCache.invalidate();
+        taskChangeCounter.changed(savedTasks.stream().map(Task::getId).toList());
+
+        logger.info("Batch of {} tasks created, IDs {} to {}",
+                    savedTasks.size(), savedTasks.getFirst().getId(), savedTasks.getLast().getId());
+        List<ResponseDTO> responses = savedTasks.stream().map(ResponseDTO::fromTask).toList();
+        taskOutbox.created(responses);
+        taskChangeFeed.created(responses);
+        return responses;
+    }
+
+    // Package-private for TaskImportService, which builds tasks as it validates rows
+    static Task newTask(CreationDTO dto) {
+        Task task = new Task();
+        task.setTitle(dto.getTitle());
+        task.setDescription(dto.getDescription());
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(dto.parsedDateTime());
+        return task;
+    }
+
+    @Transactional(readOnly = true)
     public ResponseDTO getTask(Long id) {
         logger.debug("Fetching task with ID: {}", id);
         Task task = taskRepository.findById(id)
@@ -64,47 +209,337 @@ public class TaskService {
         return ResponseDTO.fromTask(task);
     }
 
+    /**
+     * A task at version or later. The entity cache is per instance, so after a write through another instance it
+     * can hold an older copy until it expires; that copy is then dropped and the row read from the database.
+     */
+    @Transactional(readOnly = true)
+    public ResponseDTO getTask(Long id, long version) {
+        ResponseDTO task = getTask(id);
+        if (task.getVersion() >= version) {
+            return task;
+        }
+        logger.debug("Cached task ID: {} is at version {}, reading version {} from the database",
+                     id, task.getVersion(), version);
+        return taskRepository.findCurrent(id).orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    /**
+     * A task that is no longer in the tasks table, looked up in tasks_archive. Callers try getTask first.
+     */
+    @Transactional(readOnly = true)
+    public ResponseDTO getArchivedTask(Long id) {
+        logger.debug("Fetching task with ID: {} including archived tasks", id);
+        return taskRepository.findIncludingArchived(id)
+            .orElseThrow(() -> {
+                logger.warn("Task not found with ID: {}, including archived tasks", id);
+                return new TaskNotFoundException(id);
+            });
+    }
+
+    /**
+     * Counts by status, overdue and due today, read from the task_stats summary row and task_due_counts rather
+     * than the tasks table.
+     */
+    @Transactional(readOnly = true)
+    public TaskStatsDTO getStats() {
+        return taskStatistics.current();
+    }
+
+    /**
+     * Current version of a task (its ETag), read without loading the rest of the row.
+     */
+    @Transactional(readOnly = true)
+    public long getVersion(Long id) {
+        return getVersion(id, false);
+    }
+
+    @Transactional(readOnly = true)
+    public long getVersion(Long id, boolean includeArchived) {
+        Optional<Long> version = includeArchived
+            ? taskRepository.findVersionIncludingArchived(id)
+            : taskRepository.findVersionById(id);
+        return version.orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    @Transactional
     public ResponseDTO updateTask(Long id, UpdateDTO dto) {
+        return updateTask(id, dto, null);
+    }
+
+    /**
+     * Update a task only if it is still at expectedVersion (from If-Match), or unconditionally when that is null.
+     */
+    @Transactional
+    public ResponseDTO updateTask(Long id, UpdateDTO dto, Long expectedVersion) {
         logger.info("Updating task ID: {}", id);
 
-        Task task = taskRepository.findById(id)
-            .orElseThrow(() -> new TaskNotFoundException(id));
+        Task task = findForUpdate(id, expectedVersion);
+
+        boolean textChanged = !Objects.equals(task.getTitle(), dto.getTitle())
+            || !Objects.equals(task.getDescription(), dto.getDescription());
 
+        taskStatistics.removed(task);
         task.setTitle(dto.getTitle());
         task.setDescription(dto.getDescription());
-        task.setDueDate(parseDateTime(dto.getDueDate()));
+        task.setDueDate(dto.parsedDateTime());
         task.setStatus(dto.getStatus());
         Task updatedTask = taskRepository.save(task);
+        taskRepository.flush();  // Apply the version increment now, so the response carries the new ETag
+        if (textChanged) {
+            taskSearchIndex.index(updatedTask);
+        }
+        taskStatistics.added(updatedTask);
+        taskDeadlines.scheduled(updatedTask);
+        taskCountCache.invalidate();
+        taskChangeCounter.changed(List.of(id));
+        taskResponseCache.invalidate(id);
 
         logger.info("Task updated successfully for ID: {}", id);
-        return ResponseDTO.fromTask(updatedTask);
+        ResponseDTO response = ResponseDTO.fromTask(updatedTask);
+        taskOutbox.updated(response);
+        taskChangeFeed.updated(response);
+        return response;
     }
 
+    @Transactional
     public ResponseDTO updateStatus(Long id, UpdateStatusDTO dto) {
+        return updateStatus(id, dto, null);
+    }
+
+    /**
+     * Change a task's status only if it is still at expectedVersion (from If-Match), or unconditionally when
+     * that is null. One UPDATE with the version in its WHERE clause: the task is not loaded first, and a
+     * concurrent writer cannot slip in between a check and the write.
+     */
+    @Transactional
+    public ResponseDTO updateStatus(Long id, UpdateStatusDTO dto, Long expectedVersion) {
         logger.info("Updating status for task ID: {} to {}", id, dto.getStatus());
 
-        Task task = taskRepository.findById(id)
-            .orElseThrow(() -> new TaskNotFoundException(id));
+        StatusChange change = taskRepository.changeStatus(id, dto.getStatus(), expectedVersion)
+            .orElseThrow(() -> notChanged(id, expectedVersion));
+        Task updatedTask = change.task();
 
-        task.setStatus(dto.getStatus());
-        Task updatedTask = taskRepository.save(task);
+        taskStatistics.statusChanged(change.previousStatus(), updatedTask);
+        taskDeadlines.scheduled(updatedTask);
+        taskCountCache.invalidate();
+        taskChangeCounter.changed(List.of(id));
+        taskResponseCache.invalidate(id);
 
         logger.info("Task status updated successfully for ID: {}", id);
-        return ResponseDTO.fromTask(updatedTask);
+        ResponseDTO response = ResponseDTO.fromTask(updatedTask);
+        taskOutbox.statusChanged(response);
+        taskChangeFeed.statusChanged(response);
+        return response;
+    }
+
+    // Only a failed conditional UPDATE pays for a second read, to tell a missing task (404) from a stale one (412)
+    private RuntimeException notChanged(Long id, Long expectedVersion) {
+        if (expectedVersion != null && taskRepository.findVersionById(id).isPresent()) {
+            logger.warn("Rejected status update to task ID: {}, expected version {}", id, expectedVersion);
+            return new StaleTaskException(id);
+        }
+        return new TaskNotFoundException(id);
+    }
+
+    // The version check here catches clients with an old ETag; @Version catches a concurrent writer at flush
+    private Task findForUpdate(Long id, Long expectedVersion) {
+        Task task = taskRepository.findById(id)
+            .orElseThrow(() -> new TaskNotFoundException(id));
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            logger.warn("Rejected update to task ID: {} at version {}, expected {}",
+                        id, task.getVersion(), expectedVersion);
+            throw new StaleTaskException(id);
+        }
+        return task;
     }
 
+    /**
+     * Delete with one conditional DELETE rather than an existence check, a load and then the delete.
+     * The DELETE returns the row it removed, so a missing task is one that returns nothing.
+     */
+    @Transactional
     public void deleteTask(Long id) {
         logger.info("Deleting task with ID: {}", id);
 
-        if (!taskRepository.existsById(id)) {
+        DeletedTask deleted = taskRepository.deleteTask(id).orElseThrow(() -> {
             logger.warn("Attempted to delete non-existent task with ID: {}", id);
-            throw new TaskNotFoundException(id);
-        }
+            return new TaskNotFoundException(id);
+        });
+
+        taskStatistics.deleted(deleted.status(), deleted.dueDate());
 
-        taskRepository.deleteById(id);
+        taskSearchIndex.remove(id);
+        taskDeadlines.cancelled(id);
+        taskOutbox.deleted(id);
+        taskChangeFeed.deleted(id);
+        taskCountCache.invalidate();
+        taskChangeCounter.deleted(List.of(id));
+        taskResponseCache.invalidate(id);
         logger.info("Task deleted successfully with ID: {}", id);
     }
 
+    /**
+     * Set the status of every selected task, with one UPDATE per 1000 IDs. Tasks already in that status are not
+     * touched, so their updatedAt is unchanged and they are not counted. Each task changed gets its own outbox
+     * message and stream event.
+     */
+    @Transactional
+    public BulkResultDTO bulkUpdateStatus(BulkStatusDTO dto) {
+        Specification<Task> spec = selection(dto.getIds(), dto.getFilter());
+        logger.info("Bulk status update to {} for {}",
+                    dto.getStatus(), describeSelection(dto.getIds(), dto.getFilter()));
+
+        List<Long> ids = selectedIds(spec, "update");
+        List<ResponseDTO> changed = new ArrayList<>();
+        for (List<Long> chunk : chunks(ids)) {
+            for (StatusChange change : taskRepository.updateStatus(chunk, dto.getStatus())) {
+                taskStatistics.statusChanged(change.previousStatus(), change.task());
+                changed.add(ResponseDTO.fromTask(change.task()));
+            }
+        }
+        if (changed.isEmpty()) {
+            return new BulkResultDTO(0);
+        }
+
+        taskDeadlines.changedInBulk();
+        taskCountCache.invalidate();
+        taskChangeCounter.changed(changed.stream().map(ResponseDTO::getId).toList());
+        changed.forEach(task -> taskResponseCache.invalidate(task.getId()));
+
+        logger.info("Bulk status update changed {} tasks", changed.size());
+        taskOutbox.statusChanged(changed);
+        taskChangeFeed.statusChanged(changed);
+        return new BulkResultDTO(changed.size());
+    }
+
+    /**
+     * Move the due date of every selected task by the same amount, with one UPDATE per 1000 IDs.
+     * Each task moved gets its own outbox message and stream event.
+     */
+    @Transactional
+    public BulkResultDTO bulkReschedule(BulkRescheduleDTO dto) {
+        if (dto.getShift().isZero()) {
+            throw new InvalidTaskRequestException("Shift must not be zero");
+        }
+        Specification<Task> spec = selection(dto.getIds(), dto.getFilter());
+        logger.info("Bulk reschedule by {} for {}", dto.getShift(), describeSelection(dto.getIds(), dto.getFilter()));
+
+        List<Long> ids = selectedIds(spec, "reschedule");
+        List<ResponseDTO> changed = new ArrayList<>();
+        for (List<Long> chunk : chunks(ids)) {
+            for (Task task : taskRepository.shiftDueDate(chunk, dto.getShift())) {
+                taskStatistics.rescheduled(task.getDueDate().minus(dto.getShift()), task);
+                changed.add(ResponseDTO.fromTask(task));
+            }
+        }
+        if (changed.isEmpty()) {
+            return new BulkResultDTO(0);
+        }
+
+        taskDeadlines.changedInBulk();
+        taskCountCache.invalidate();
+        taskChangeCounter.changed(changed.stream().map(ResponseDTO::getId).toList());
+        changed.forEach(task -> taskResponseCache.invalidate(task.getId()));
+
+        logger.info("Bulk reschedule moved {} tasks", changed.size());
+        taskOutbox.updated(changed);
+        taskChangeFeed.updated(changed);
+        return new BulkResultDTO(changed.size());
+    }
+
+    /**
+     * Delete every selected task. Matching IDs are read first (IDs only, no entities) so the search
+     * index can be cleaned up for exactly those tasks, then removed with one DELETE per 1000 IDs.
+     * Each task deleted gets its own outbox message and stream event.
+     */
+    @Transactional
+    public BulkResultDTO bulkDelete(BulkDeleteDTO dto) {
+        Specification<Task> spec = selection(dto.getIds(), dto.getFilter());
+        logger.info("Bulk delete for {}", describeSelection(dto.getIds(), dto.getFilter()));
+
+        List<Long> ids = selectedIds(spec, "delete");
+        if (ids.isEmpty()) {
+            return new BulkResultDTO(0);
+        }
+
+        // Only the rows this DELETE removed: a task deleted meanwhile already has its tombstone and messages
+        List<Long> deleted = new ArrayList<>(ids.size());
+        for (List<Long> chunk : chunks(ids)) {
+            for (DeletedTask task : taskRepository.deleteByIds(chunk)) {
+                taskStatistics.deleted(task.status(), task.dueDate());
+                deleted.add(task.id());
+            }
+        }
+        if (deleted.isEmpty()) {
+            return new BulkResultDTO(0);
+        }
+
+        taskSearchIndex.remove(deleted);
+        taskDeadlines.changedInBulk();
+        taskCountCache.invalidate();
+        taskChangeCounter.deleted(deleted);
+        deleted.forEach(taskResponseCache::invalidate);
+
+        logger.info("Bulk delete removed {} tasks", deleted.size());
+        taskOutbox.deleted(deleted);
+        taskChangeFeed.deleted(deleted);
+        return new BulkResultDTO(deleted.size());
+    }
+
+    // IDs only, no entities. They are read rather than left to an UPDATE ... WHERE <filter> because each task
+    // changed is also handled one by one outside the tasks table: its statistics delta, outbox message, stream
+    // event, cache evictions and, for deletes, tombstone and search postings. All of that is held until commit,
+    // so a filter matching more than MAX_BULK_SIZE tasks is rejected before anything changes rather than growing
+    // one transaction without bound. Statements take MAX_BATCH_SIZE ids at a time to keep each IN list bounded
+    private List<Long> selectedIds(Specification<Task> spec, String operation) {
+        List<Long> ids = taskRepository.findIds(spec, MAX_BULK_SIZE + 1);
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new InvalidTaskRequestException("filter matches more than " + MAX_BULK_SIZE
+                                                      + " tasks; narrow it and " + operation + " in several calls");
+        }
+        return ids;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_BATCH_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + MAX_BATCH_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    // Bulk operations target either an explicit ID list or the listing filters - never both, and never
+    // an empty filter, which would silently select every task
+    private Specification<Task> selection(List<Long> ids, TaskFilterDTO filter) {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        if (hasIds == (filter != null)) {
+            throw new InvalidTaskRequestException("Provide either ids or filter");
+        }
+
+        if (hasIds) {
+            if (ids.size() > MAX_BATCH_SIZE) {
+                throw new InvalidTaskRequestException("ids must not contain more than " + MAX_BATCH_SIZE + " entries");
+            }
+            return TaskSpecifications.hasIdIn(ids);
+        }
+
+        boolean hasSearch = filter.getSearch() != null && !filter.getSearch().isBlank();
+        boolean hasDueDate = filter.getDueDateFrom() != null || filter.getDueDateTo() != null;
+        if (filter.getStatus() == null && !hasSearch && !hasDueDate) {
+            throw new InvalidTaskRequestException(
+                "filter must set at least one of status, search, dueDateFrom or dueDateTo");
+        }
+        return TaskSpecifications.withFilters(
+            filter.getStatus(), filter.getSearch(), filter.getDueDateFrom(), filter.getDueDateTo()
+        );
+    }
+
+    private String describeSelection(List<Long> ids, TaskFilterDTO filter) {
+        return ids != null && !ids.isEmpty() ? ids.size() + " ids" : filter.toString();
+    }
+
+    @Transactional(readOnly = true)
     public Page<ResponseDTO> getAllTasks(
         TaskStatus status,
         String search,
@@ -112,18 +547,218 @@ public class TaskService {
         LocalDateTime dueDateTo,
         Pageable pageable
     ) {
-        logger.debug("Fetching tasks with filters - status: {}, search: {}, dueDateFrom: {}, dueDateTo: {}, page: {}",
-                     status, search, dueDateFrom, dueDateTo, pageable.getPageNumber());
+        return getAllTasks(status, search, dueDateFrom, dueDateTo, pageable, false);
+    }
 
-        Specification<Task> spec = TaskSpecifications.withFilters(status, search, dueDateFrom, dueDateTo);
-        Page<Task> tasks = taskRepository.findAll(spec, pageable);
+    /**
+     * @param includeArchived Read tasks_archive as well as the tasks table. Totals over both are never cached.
+     */
+    @Transactional(readOnly = true)
+    public Page<ResponseDTO> getAllTasks(
+        TaskStatus status,
+        String search,
+        LocalDateTime dueDateFrom,
+        LocalDateTime dueDateTo,
+        Pageable pageable,
+        boolean includeArchived
+    ) {
+        logger.debug("Fetching tasks with filters - status: {}, search: {}, dueDateFrom: {}, dueDateTo: {}, page: {}, "
+                         + "includeArchived: {}",
+                     status, search, dueDateFrom, dueDateTo, pageable.getPageNumber(), includeArchived);
+
+        long generation = taskCountCache.generation();
+        Page<ResponseDTO> tasks = findPage(status, search, dueDateFrom, dueDateTo, pageable, includeArchived);
+        if (!includeArchived) {
+            taskCountCache.put(status, search, dueDateFrom, dueDateTo, tasks.getTotalElements(), generation);
+        }
 
         logger.debug("Found {} tasks (page {} of {})",
                      tasks.getNumberOfElements(),
                      tasks.getNumber() + 1,
                      tasks.getTotalPages());
 
-        return tasks.map(ResponseDTO::fromTask);
+        return tasks;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageDTO getTaskPage(
+        TaskStatus status,
+        String search,
+        LocalDateTime dueDateFrom,
+        LocalDateTime dueDateTo,
+        Pageable pageable,
+        CountMode countMode
+    ) {
+        return getTaskPage(status, search, dueDateFrom, dueDateTo, pageable, countMode, false);
+    }
+
+    /**
+     * @param includeArchived Read tasks_archive as well as the tasks table. ESTIMATED then counts exactly, since
+     *     cached totals cover the tasks table alone.
+     */
+    @Transactional(readOnly = true)
+    public TaskPageDTO getTaskPage(
+        TaskStatus status,
+        String search,
+        LocalDateTime dueDateFrom,
+        LocalDateTime dueDateTo,
+        Pageable pageable,
+        CountMode countMode,
+        boolean includeArchived
+    ) {
+        logger.debug("Fetching tasks with filters - status: {}, search: {}, dueDateFrom: {}, dueDateTo: {}, page: {}, "
+                         + "count: {}, includeArchived: {}",
+                     status, search, dueDateFrom, dueDateTo, pageable.getPageNumber(), countMode, includeArchived);
+
+        if (countMode == CountMode.NONE) {
+            Slice<ResponseDTO> tasks = findSlice(status, search, dueDateFrom, dueDateTo, pageable, includeArchived);
+            return toTaskPage(tasks, null, false);
+        }
+
+        if (countMode == CountMode.ESTIMATED && !includeArchived) {
+            OptionalLong cachedCount = taskCountCache.get(status, search, dueDateFrom, dueDateTo);
+            if (cachedCount.isPresent()) {
+                // hasNext still comes from the slice itself, so it is exact even if the total lags
+                Slice<ResponseDTO> tasks = findSlice(status, search, dueDateFrom, dueDateTo, pageable, false);
+                return toTaskPage(tasks, cachedCount.getAsLong(), true);
+            }
+        }
+
+        long generation = taskCountCache.generation();
+        Page<ResponseDTO> tasks = findPage(status, search, dueDateFrom, dueDateTo, pageable, includeArchived);
+        if (!includeArchived) {
+            taskCountCache.put(status, search, dueDateFrom, dueDateTo, tasks.getTotalElements(), generation);
+        }
+        return toTaskPage(tasks, tasks.getTotalElements(), false);
+    }
+
+    // A page of listing results from Task, or TaskWithArchive to include archived tasks
+    private Page<ResponseDTO> findPage(
+        TaskStatus status,
+        String search,
+        LocalDateTime dueDateFrom,
+        LocalDateTime dueDateTo,
+        Pageable pageable,
+        boolean includeArchived
+    ) {
+        if (includeArchived) {
+            Specification<TaskWithArchive> spec = filtersFor(status, search, dueDateFrom, dueDateTo, pageable);
+            return taskRepository.findPage(TaskWithArchive.class, spec, pageable);
+        }
+        Specification<Task> spec = filtersFor(status, search, dueDateFrom, dueDateTo, pageable);
+        return taskRepository.findPage(Task.class, spec, pageable);
+    }
+
+    // As findPage, without the COUNT
+    private Slice<ResponseDTO> findSlice(
+        TaskStatus status,
+        String search,
+        LocalDateTime dueDateFrom,
+        LocalDateTime dueDateTo,
+        Pageable pageable,
+        boolean includeArchived
+    ) {
+        if (includeArchived) {
+            Specification<TaskWithArchive> spec = filtersFor(status, search, dueDateFrom, dueDateTo, pageable);
+            return taskRepository.findSlice(TaskWithArchive.class, spec, pageable);
+        }
+        Specification<Task> spec = filtersFor(status, search, dueDateFrom, dueDateTo, pageable);
+        return taskRepository.findSlice(Task.class, spec, pageable);
+    }
+
+    /**
+     * Listing filters, ranked by search relevance when the caller asked for no explicit sort.
+     */
+    private static <T> Specification<T> filtersFor(
+        TaskStatus status,
+        String search,
+        LocalDateTime dueDateFrom,
+        LocalDateTime dueDateTo,
+        Pageable pageable
+    ) {
+        Specification<T> spec = TaskSpecifications.withFilters(status, search, dueDateFrom, dueDateTo);
+        if (pageable.getSort().isUnsorted()) {
+            spec = spec.and(TaskSpecifications.orderByRelevance(search));
+        }
+        return spec;
+    }
+
+    private TaskPageDTO toTaskPage(Slice<ResponseDTO> tasks, Long totalElements, boolean estimated) {
+        Integer totalPages = null;
+        if (totalElements != null) {
+            totalPages = (int) Math.ceil((double) totalElements / tasks.getSize());
+        }
+
+        TaskPageDTO.PageMetadata metadata = new TaskPageDTO.PageMetadata(
+            tasks.getSize(),
+            tasks.getNumber(),
+            totalElements,
+            totalPages,
+            tasks.hasNext(),
+            estimated
+        );
+        return new TaskPageDTO(tasks.getContent(), metadata);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO getTasksByCursor(
+        TaskStatus status,
+        String search,
+        LocalDateTime dueDateFrom,
+        LocalDateTime dueDateTo,
+        String cursor,
+        int size
+    ) {
+        return getTasksByCursor(status, search, dueDateFrom, dueDateTo, cursor, size, false);
+    }
+
+    /**
+     * @param includeArchived Read tasks_archive as well as the tasks table. A cursor from either mode works in both.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO getTasksByCursor(
+        TaskStatus status,
+        String search,
+        LocalDateTime dueDateFrom,
+        LocalDateTime dueDateTo,
+        String cursor,
+        int size,
+        boolean includeArchived
+    ) {
+        TaskCursor position = TaskCursor.decode(cursor);
+        logger.debug("Fetching tasks by cursor - status: {}, search: {}, dueDateFrom: {}, dueDateTo: {}, after: {}",
+                     status, search, dueDateFrom, dueDateTo, position == null ? "start" : position.getId());
+
+        // Always page 0: the cursor predicate does the seeking, so there is no OFFSET to skip over
+        PageRequest pageable = PageRequest.of(0, size, KEYSET_SORT);
+        Slice<ResponseDTO> tasks = includeArchived
+            ? taskRepository.findSlice(
+                TaskWithArchive.class, cursorFilters(status, search, dueDateFrom, dueDateTo, position), pageable)
+            : taskRepository.findSlice(
+                Task.class, cursorFilters(status, search, dueDateFrom, dueDateTo, position), pageable);
+
+        String nextCursor = null;
+        if (tasks.hasNext()) {
+            ResponseDTO last = tasks.getContent().getLast();
+            nextCursor = new TaskCursor(last.getDueDate(), last.getId()).encode();
+        }
+
+        logger.debug("Found {} tasks, more available: {}", tasks.getNumberOfElements(), tasks.hasNext());
+        return new CursorPageDTO(tasks.getContent(), size, nextCursor);
+    }
+
+    private static <T> Specification<T> cursorFilters(
+        TaskStatus status,
+        String search,
+        LocalDateTime dueDateFrom,
+        LocalDateTime dueDateTo,
+        TaskCursor position
+    ) {
+        Specification<T> spec = TaskSpecifications.withFilters(status, search, dueDateFrom, dueDateTo);
+        if (position != null) {
+            spec = spec.and(TaskSpecifications.afterCursor(position.getDueDate(), position.getId()));
+        }
+        return spec;
     }
 
 }
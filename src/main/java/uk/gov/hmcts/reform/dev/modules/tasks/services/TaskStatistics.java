@@ -0,0 +1,245 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskStatsDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Task counts by status, overdue and due today, kept in the task_stats row and the task_due_counts table so
+ * GET /api/tasks/stats reads a bounded number of rows however many tasks there are.
+ *
+ * <p>TaskService reports each task it adds, removes or changes, bulk operations included. The changes are summed
+ * in memory and written just before the transaction commits, as TaskChangeCounter does, so a rolled-back write
+ * never reaches the tables.
+ *
+ * <p>Overdue and due-today move with the clock, so open tasks are counted per due minute rather than as two
+ * running totals. task_stats.overdue holds the open tasks due before rolled_to; a read adds the minutes from
+ * rolled_to up to the current one and sums today's minutes, so both are exact to the minute. A periodic
+ * reconciliation recounts everything from the tasks table, repairing any drift and moving rolled_to up to now.
+ * Writers and recounts lock the task_stats row before touching either table, so a concurrent write's change is
+ * either counted by the recount or added after it.
+ */
+@Component
+public class TaskStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatistics.class);
+
+    // Adds to a minute's count, creating it on first use. Writers hold the task_stats row lock, so two cannot
+    // insert the same minute at once
+    private static final String ADD_TO_MINUTE =
+        "MERGE INTO task_due_counts t "
+            + "USING (VALUES (CAST(? AS TIMESTAMP), CAST(? AS BIGINT))) s (due_minute, delta) "
+            + "ON t.due_minute = s.due_minute "
+            + "WHEN MATCHED THEN UPDATE SET open_tasks = t.open_tasks + s.delta "
+            + "WHEN NOT MATCHED THEN INSERT (due_minute, open_tasks) VALUES (s.due_minute, s.delta)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskStatistics(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public TaskStatsDTO current() {
+        LocalDateTime minute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime today = minute.toLocalDate().atStartOfDay();
+        // Both sums are primary-key ranges: the minutes since the last reconciliation, and today's minutes
+        return jdbcTemplate.queryForObject(
+            "SELECT pending, in_progress, completed, reconciled_at, overdue + COALESCE((SELECT SUM(open_tasks) "
+                + "FROM task_due_counts WHERE due_minute >= s.rolled_to AND due_minute < ?), 0) AS overdue, "
+                + "COALESCE((SELECT SUM(open_tasks) FROM task_due_counts "
+                + "WHERE due_minute >= ? AND due_minute < ?), 0) AS due_today FROM task_stats s WHERE id = 1",
+            (rs, rowNum) -> {
+                Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+                byStatus.put(TaskStatus.PENDING, rs.getLong("pending"));
+                byStatus.put(TaskStatus.IN_PROGRESS, rs.getLong("in_progress"));
+                byStatus.put(TaskStatus.COMPLETED, rs.getLong("completed"));
+                long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+                Timestamp reconciledAt = rs.getTimestamp("reconciled_at");
+                return new TaskStatsDTO(byStatus, total, rs.getLong("overdue"), rs.getLong("due_today"),
+                                        reconciledAt == null ? null : reconciledAt.toLocalDateTime());
+            },
+            minute, today, today.plusDays(1));
+    }
+
+    /**
+     * Count a task as it is now. Call after creating it, or after changing it (paired with removed() before).
+     */
+    public void added(Task task) {
+        tally(task.getStatus(), task.getDueDate(), 1);
+    }
+
+    /**
+     * Stop counting a task as it is now. Call before changing or deleting it.
+     */
+    public void removed(Task task) {
+        tally(task.getStatus(), task.getDueDate(), -1);
+    }
+
+    /**
+     * Move a task from previousStatus to its current status, for a change made without loading it first.
+     * Its due date is unchanged.
+     */
+    public void statusChanged(TaskStatus previousStatus, Task task) {
+        tally(previousStatus, task.getDueDate(), -1);
+        added(task);
+    }
+
+    /**
+     * Move a task from previousDueDate to its current due date, for a change made without loading it first.
+     * Its status is unchanged.
+     */
+    public void rescheduled(LocalDateTime previousDueDate, Task task) {
+        tally(task.getStatus(), previousDueDate, -1);
+        added(task);
+    }
+
+    /**
+     * Stop counting a task deleted without being loaded, from the status and due date its DELETE returned.
+     */
+    public void deleted(TaskStatus status, LocalDateTime dueDate) {
+        tally(status, dueDate, -1);
+    }
+
+    /**
+     * Stop counting completed tasks moved to tasks_archive. Like the recount, the stats cover the tasks table only.
+     */
+    public void archived(int count) {
+        tally(TaskStatus.COMPLETED, null, -count);
+    }
+
+    @Scheduled(
+        initialDelayString = "${tasks.stats.reconcile-initial-delay:0s}",
+        fixedDelayString = "${tasks.stats.reconcile-interval:5m}"
+    )
+    @Transactional
+    public void reconcile() {
+        recount();
+        logger.debug("Task statistics reconciled");
+    }
+
+    private void tally(TaskStatus status, LocalDateTime dueDate, long sign) {
+        PendingChange change = pendingChange();
+        PendingChange target = change == null ? new PendingChange() : change;
+        target.byStatus[status.ordinal()] += sign;
+        if (status != TaskStatus.COMPLETED) {
+            target.byDueMinute.merge(dueDate.truncatedTo(ChronoUnit.MINUTES), sign, Long::sum);
+        }
+        if (change == null) {
+            apply(target);
+        }
+    }
+
+    // The current transaction's change, registered on first use; null outside a transaction
+    private PendingChange pendingChange() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        PendingChange change = (PendingChange) TransactionSynchronizationManager.getResource(this);
+        if (change != null) {
+            return change;
+        }
+
+        PendingChange newChange = new PendingChange();
+        TransactionSynchronizationManager.bindResource(this, newChange);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                apply(newChange);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskStatistics.this);
+            }
+        });
+        return newChange;
+    }
+
+    private void apply(PendingChange change) {
+        change.byDueMinute.values().removeIf(delta -> delta == 0);
+        if (change.byDueMinute.isEmpty() && Arrays.stream(change.byStatus).allMatch(delta -> delta == 0)) {
+            return;  // e.g. an edit to the title only
+        }
+
+        // Takes the row lock, and reads where the last reconciliation folded minutes into overdue
+        LocalDateTime rolledTo = jdbcTemplate.queryForObject(
+            "SELECT rolled_to FROM FINAL TABLE (UPDATE task_stats SET pending = pending + ?, "
+                + "in_progress = in_progress + ?, completed = completed + ? WHERE id = 1)",
+            LocalDateTime.class,
+            change.byStatus[TaskStatus.PENDING.ordinal()], change.byStatus[TaskStatus.IN_PROGRESS.ordinal()],
+            change.byStatus[TaskStatus.COMPLETED.ordinal()]);
+
+        // A minute before rolled_to is already in overdue. Minutes from today on are also kept for due-today;
+        // older ones were dropped by the last reconciliation and are not recreated
+        LocalDateTime today = LocalDateTime.now().toLocalDate().atStartOfDay();
+        long overdue = 0;
+        List<Object[]> minutes = new ArrayList<>();
+        for (Map.Entry<LocalDateTime, Long> entry : change.byDueMinute.entrySet()) {
+            LocalDateTime minute = entry.getKey();
+            if (minute.isBefore(rolledTo)) {
+                overdue += entry.getValue();
+            }
+            if (!minute.isBefore(rolledTo) || !minute.isBefore(today)) {
+                minutes.add(new Object[] {minute, entry.getValue()});
+            }
+        }
+
+        if (overdue != 0) {
+            jdbcTemplate.update("UPDATE task_stats SET overdue = overdue + ? WHERE id = 1", overdue);
+        }
+        if (!minutes.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_TO_MINUTE, minutes);
+        }
+    }
+
+    private void recount() {
+        // Writers add their change under this lock, so none can land between the count and the overwrite
+        jdbcTemplate.queryForObject("SELECT id FROM task_stats WHERE id = 1 FOR UPDATE", Integer.class);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minute = now.truncatedTo(ChronoUnit.MINUTES);
+        long[] counts = jdbcTemplate.queryForObject(
+            "SELECT COUNT(CASE WHEN status = 'PENDING' THEN 1 END), "
+                + "COUNT(CASE WHEN status = 'IN_PROGRESS' THEN 1 END), "
+                + "COUNT(CASE WHEN status = 'COMPLETED' THEN 1 END), "
+                + "COUNT(CASE WHEN status <> 'COMPLETED' AND due_date < ? THEN 1 END) "
+                + "FROM tasks",
+            (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)},
+            minute);
+
+        jdbcTemplate.update("DELETE FROM task_due_counts");
+        jdbcTemplate.update(
+            "INSERT INTO task_due_counts (due_minute, open_tasks) "
+                + "SELECT DATE_TRUNC('MINUTE', due_date), COUNT(*) FROM tasks "
+                + "WHERE status <> 'COMPLETED' AND due_date >= ? GROUP BY DATE_TRUNC('MINUTE', due_date)",
+            now.toLocalDate().atStartOfDay());
+
+        jdbcTemplate.update(
+            "UPDATE task_stats SET pending = ?, in_progress = ?, completed = ?, overdue = ?, rolled_to = ?, "
+                + "reconciled_at = ? WHERE id = 1",
+            counts[0], counts[1], counts[2], counts[3], minute, now);
+    }
+
+    private static final class PendingChange {
+        private final long[] byStatus = new long[TaskStatus.values().length];
+        private final Map<LocalDateTime, Long> byDueMinute = new TreeMap<>();
+    }
+}
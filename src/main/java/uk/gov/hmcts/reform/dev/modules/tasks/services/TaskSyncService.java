@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskChangesDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.InvalidTaskRequestException;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.SyncTokenExpiredException;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+import uk.gov.hmcts.reform.dev.modules.tasks.pagination.SyncToken;
+import uk.gov.hmcts.reform.dev.modules.tasks.repositories.TaskRepository;
+import uk.gov.hmcts.reform.dev.modules.tasks.services.TaskChangeLog.TaskChange;
+import uk.gov.hmcts.reform.dev.modules.tasks.specifications.TaskSpecifications;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delta sync for GET /api/tasks/changes: tasks changed and deleted since a token, read by range on
+ * idx_task_changes_seq, so a call costs what has changed rather than what exists.
+ *
+ * <p>Positions are task_change_counter values, which transactions take in the order they commit. Each call
+ * reads up to the counter's committed value: every change at or below it has committed, and every later one
+ * will get a higher value, so nothing is skipped however long a write takes to commit.
+ */
+@Service
+public class TaskSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSyncService.class);
+    private static final int MAX_LIMIT = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskChangeLog taskChangeLog;
+    private final TaskChangeCounter taskChangeCounter;
+
+    public TaskSyncService(
+        TaskRepository taskRepository,
+        TaskChangeLog taskChangeLog,
+        TaskChangeCounter taskChangeCounter
+    ) {
+        this.taskRepository = taskRepository;
+        this.taskChangeLog = taskChangeLog;
+        this.taskChangeCounter = taskChangeCounter;
+    }
+
+    /**
+     * Tasks changed and IDs of tasks deleted since the token, up to limit of them in all.
+     * @param since nextToken from the previous call, or null/blank for a full sync of every task
+     * @throws SyncTokenExpiredException if deletes since the token may already have been purged
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesDTO getChanges(String since, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidTaskRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        SyncToken from = SyncToken.decode(since);
+        SyncToken start = from == null ? new SyncToken(0, 0) : from;
+        long horizon = taskChangeCounter.current();
+
+        List<TaskChange> entries =
+            taskChangeLog.findBetween(start.getChangeSeq(), start.getTaskId(), horizon, limit + 1);
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+        if (from != null && from.getChangeSeq() < taskChangeLog.resumableFrom()) {
+            throw new SyncTokenExpiredException();
+        }
+
+        List<Long> changedIds = entries.stream().filter(entry -> !entry.deleted()).map(TaskChange::taskId).toList();
+        List<ResponseDTO> changed = findChanged(changedIds);
+        List<Long> deleted = entries.stream().filter(TaskChange::deleted).map(TaskChange::taskId).toList();
+
+        // A read cut short resumes just after its last entry; one read to the end, after the horizon
+        TaskChange last = hasMore ? entries.getLast() : null;
+        SyncToken next = last == null
+            ? new SyncToken(horizon + 1, 0)
+            : new SyncToken(last.changeSeq(), last.taskId() + 1);
+
+        logger.debug("Delta sync from {}: {} changed, {} deleted, more: {}",
+                     from == null ? "start" : since, changed.size(), deleted.size(), hasMore);
+        return new TaskChangesDTO(changed, deleted, next.encode(), hasMore);
+    }
+
+    // In change order. A task deleted or archived since its change was committed is left out; a delete is
+    // reported by a later call
+    private List<ResponseDTO> findChanged(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ResponseDTO> byId = taskRepository
+            .findSlice(Task.class, TaskSpecifications.hasIdIn(ids), PageRequest.of(0, ids.size()))
+            .stream()
+            .collect(Collectors.toMap(ResponseDTO::getId, Function.identity()));
+        List<ResponseDTO> changed = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            ResponseDTO task = byId.get(id);
+            if (task != null) {
+                changed.add(task);
+            }
+        }
+        return changed;
+    }
+}
@@ -1,18 +1,29 @@
 package uk.gov.hmcts.reform.dev.modules.tasks.specifications;
 
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
 import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskTrigram;
+import uk.gov.hmcts.reform.dev.modules.tasks.search.Trigrams;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * JPA Specifications for building dynamic Task queries.
  * Each method returns a Specification that can be combined using .and() / .or()
  * Null parameters are handled gracefully - they simply don't add predicates to the query.
+ * Predicates name attributes that Task and TaskWithArchive share, so each method is generic in the entity
+ * and the same filters read the archive too.
  */
 public class TaskSpecifications {
 
@@ -21,7 +32,7 @@ public class TaskSpecifications {
      * @param status The status to filter by, or null to ignore this filter
      * @return Specification that filters by status, or null if status is null
      */
-    public static Specification<Task> hasStatus(TaskStatus status) {
+    public static <T> Specification<T> hasStatus(TaskStatus status) {
         return (root, query, criteriaBuilder) -> {
             if (status == null) {
                 return null;  // No filter - returns all tasks
@@ -32,22 +43,20 @@ public class TaskSpecifications {
 
     /**
      * Search for text in title or description (case-insensitive).
+     * Terms of three or more characters are first narrowed to candidate IDs through the
+     * task_trigrams index (every trigram of the term must be present), then rechecked with LIKE
+     * so results are identical to a plain substring match. Shorter terms fall back to LIKE alone, as do
+     * reads that include archived tasks, which the archiver removes from the index.
      * @param searchText The text to search for, or null to ignore this filter
      * @return Specification that searches title and description, or null if searchText is null
      */
-    public static Specification<Task> searchByText(String searchText) {
+    public static <T> Specification<T> searchByText(String searchText) {
         return (root, query, criteriaBuilder) -> {
             if (searchText == null || searchText.isBlank()) {
                 return null;  // No filter
             }
 
-            // Escape LIKE wildcards so they are treated as literal characters
-            String escaped = searchText.toLowerCase()
-                .replace("\\", "\\\\")
-                .replace("%", "\\%")
-                .replace("_", "\\_");
-
-            String searchPattern = "%" + escaped + "%";
+            String searchPattern = "%" + escapeLike(searchText) + "%";
             Predicate titleMatch = criteriaBuilder.like(
                 criteriaBuilder.lower(root.get("title")),
                 searchPattern,
@@ -58,18 +67,74 @@ public class TaskSpecifications {
                 searchPattern,
                 '\\'
             );
+            Predicate textMatch = criteriaBuilder.or(titleMatch, descriptionMatch);
+
+            Set<String> trigrams = Trigrams.forQuery(searchText);
+            if (trigrams.isEmpty() || query == null || root.getJavaType() != Task.class) {
+                return textMatch;  // Too short for the index, or reading TaskWithArchive
+            }
 
-            return criteriaBuilder.or(titleMatch, descriptionMatch);
+            Subquery<Long> candidates = query.subquery(Long.class);
+            Root<TaskTrigram> posting = candidates.from(TaskTrigram.class);
+            candidates.select(posting.<Long>get("taskId"))
+                .where(posting.get("trigram").in(trigrams))
+                .groupBy(posting.get("taskId"))
+                .having(criteriaBuilder.equal(
+                    criteriaBuilder.countDistinct(posting.get("trigram")),
+                    (long) trigrams.size()
+                ));
+
+            return criteriaBuilder.and(root.get("id").in(candidates), textMatch);
         };
     }
 
+    /**
+     * Order search results by relevance: title starts with the term, then title contains it,
+     * then description-only matches, each tier by due date. Adds no predicate of its own, and
+     * only takes effect when the Pageable is unsorted (an explicit sort replaces it).
+     * @param searchText The text being searched for, or null to order by due date alone
+     * @return Specification that orders by relevance
+     */
+    public static <T> Specification<T> orderByRelevance(String searchText) {
+        return (root, query, criteriaBuilder) -> {
+            // Page counts run the same Specification against a count query; ordering one would fail
+            if (query == null || Long.class.equals(query.getResultType())) {
+                return null;
+            }
+
+            List<Order> orders = new ArrayList<>();
+            if (searchText != null && !searchText.isBlank()) {
+                String escaped = escapeLike(searchText);
+                Expression<String> title = criteriaBuilder.lower(root.get("title"));
+                Expression<Integer> rank = criteriaBuilder.<Integer>selectCase()
+                    .when(criteriaBuilder.like(title, escaped + "%", '\\'), 0)
+                    .when(criteriaBuilder.like(title, "%" + escaped + "%", '\\'), 1)
+                    .otherwise(2);
+                orders.add(criteriaBuilder.asc(rank));
+            }
+            orders.add(criteriaBuilder.asc(root.get("dueDate")));
+            orders.add(criteriaBuilder.asc(root.get("id")));
+
+            query.orderBy(orders);
+            return null;
+        };
+    }
+
+    // Lower-case as Trigrams does, and escape LIKE wildcards so they are treated as literal characters
+    private static String escapeLike(String searchText) {
+        return searchText.toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+
     /**
      * Filter by due date range (inclusive).
      * @param dueDateFrom Start of date range (inclusive), or null for no lower bound
      * @param dueDateTo End of date range (inclusive), or null for no upper bound
      * @return Specification that filters by date range, or null if both dates are null
      */
-    public static Specification<Task> hasDueDateBetween(LocalDateTime dueDateFrom, LocalDateTime dueDateTo) {
+    public static <T> Specification<T> hasDueDateBetween(LocalDateTime dueDateFrom, LocalDateTime dueDateTo) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
@@ -88,6 +153,44 @@ public class TaskSpecifications {
         };
     }
 
+    /**
+     * Keyset predicate for cursor pagination: tasks strictly after (dueDate, id) in (dueDate, id) order.
+     * Written as due_date >= x AND (due_date > x OR id > y) so the leading range stays sargable
+     * on idx_tasks_due_date / idx_tasks_status_due_date; the tie-break on id is a residual filter.
+     * @param dueDate Due date of the last task already returned, or null for the first page
+     * @param id ID of the last task already returned, or null for the first page
+     * @return Specification that seeks past the cursor, or null if there is no cursor
+     */
+    public static <T> Specification<T> afterCursor(LocalDateTime dueDate, Long id) {
+        return (root, query, criteriaBuilder) -> {
+            if (dueDate == null || id == null) {
+                return null;  // First page
+            }
+
+            return criteriaBuilder.and(
+                criteriaBuilder.greaterThanOrEqualTo(root.get("dueDate"), dueDate),
+                criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(root.get("dueDate"), dueDate),
+                    criteriaBuilder.greaterThan(root.get("id"), id)
+                )
+            );
+        };
+    }
+
+    /**
+     * Restrict to an explicit set of task IDs.
+     * @param ids The IDs to match, or null to ignore this filter
+     * @return Specification that matches only those IDs, or null if ids is null
+     */
+    public static <T> Specification<T> hasIdIn(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> {
+            if (ids == null) {
+                return null;  // No filter
+            }
+            return root.get("id").in(ids);
+        };
+    }
+
     /**
      * Combine all filters into a single Specification.
      * @param status Optional status filter
@@ -96,7 +199,7 @@ public class TaskSpecifications {
      * @param dueDateTo Optional end of date range
      * @return Combined Specification with all filters applied
      */
-    public static Specification<Task> withFilters(
+    public static <T> Specification<T> withFilters(
         TaskStatus status,
         String searchText,
         LocalDateTime dueDateFrom,
@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.stream;
+
+/**
+ * One entry in TaskChangeFeed's history, sent to subscribers as an SSE event.
+ * @param id The SSE id, which a reconnecting client sends back as Last-Event-ID
+ * @param sequence Position in this instance's feed; ids carry it after the feed's epoch
+ * @param type Sent as the SSE event name
+ * @param json The event data, serialized once when the event is published rather than once per subscriber
+ */
+public record TaskChangeEvent(String id, long sequence, Type type, String json) {
+
+    public enum Type {
+        CREATED("created"),
+        UPDATED("updated"),
+        STATUS_CHANGED("status-changed"),
+        DELETED("deleted");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String getEventName() {
+            return eventName;
+        }
+    }
+}
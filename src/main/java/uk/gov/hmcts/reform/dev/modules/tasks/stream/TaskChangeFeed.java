@@ -0,0 +1,325 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.stream.TaskChangeEvent.Type;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Committed task changes for GET /api/tasks/stream, held in a ring buffer of the last tasks.stream.history
+ * events (default 1000) so a client that reconnects with Last-Event-ID is sent only what it missed.
+ * A client whose Last-Event-ID is no longer held, or came from before a restart, is sent a reset event
+ * telling it to reload the list instead.
+ *
+ * <p>Connections hold no thread while idle: each is an SseEmitter on a released servlet request. When an event
+ * is published, every subscriber is given one delivery task on a virtual thread, which sends everything after
+ * that subscriber's position and ends. Tasks are never doubled up per subscriber, so a slow client only delays
+ * itself; one that falls further behind than the history is sent a reset and moved to the newest event.
+ *
+ * <p>TaskService reports each change as it makes it; the event is published once the transaction commits, so
+ * a rolled-back write is never announced. Each instance has its own feed and sees only its own writes.
+ */
+@Component
+public class TaskChangeFeed implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeFeed.class);
+    static final String RESET_EVENT = "reset";
+
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final TaskChangeEvent[] history;
+    // Distinguishes this instance's sequence numbers from those a client saw before a restart
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService delivery = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong resets = new AtomicLong();
+    private long lastSequence;  // Guarded by lock; sequences start at 1
+
+    public TaskChangeFeed(
+        ObjectMapper objectMapper,
+        @Value("${tasks.stream.history:1000}") int history,
+        @Value("${tasks.stream.timeout:30m}") Duration timeout
+    ) {
+        this.objectMapper = objectMapper;
+        this.history = new TaskChangeEvent[history];
+        this.timeout = timeout;
+    }
+
+    public void created(ResponseDTO task) {
+        publishAfterCommit(Type.CREATED, List.of(task));
+    }
+
+    public void created(List<ResponseDTO> tasks) {
+        publishAfterCommit(Type.CREATED, List.copyOf(tasks));
+    }
+
+    public void updated(ResponseDTO task) {
+        publishAfterCommit(Type.UPDATED, List.of(task));
+    }
+
+    public void updated(List<ResponseDTO> tasks) {
+        publishAfterCommit(Type.UPDATED, List.copyOf(tasks));
+    }
+
+    public void statusChanged(ResponseDTO task) {
+        publishAfterCommit(Type.STATUS_CHANGED, List.of(task));
+    }
+
+    public void statusChanged(List<ResponseDTO> tasks) {
+        publishAfterCommit(Type.STATUS_CHANGED, List.copyOf(tasks));
+    }
+
+    public void deleted(Long id) {
+        publishAfterCommit(Type.DELETED, List.of(Map.of("id", id)));
+    }
+
+    public void deleted(Collection<Long> ids) {
+        publishAfterCommit(Type.DELETED, ids.stream().map(id -> Map.of("id", id)).toList());
+    }
+
+    /**
+     * Open a stream for a client, starting after lastEventId when it is still held, or with the next event.
+     * @param lastEventId The Last-Event-ID header of a reconnecting client, or null
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber;
+        lock.lock();
+        try {
+            Optional<Long> resumeAfter = lastEventId == null ? Optional.of(lastSequence) : resumable(lastEventId);
+            subscriber = new Subscriber(emitter, resumeAfter.orElse(lastSequence), resumeAfter.isEmpty());
+        } finally {
+            lock.unlock();
+        }
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);  // The client reconnects with Last-Event-ID
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * The id of the newest event, from which a client that has just loaded the list can follow changes.
+     */
+    public String lastEventId() {
+        return epoch + "-" + currentSequence();
+    }
+
+    /**
+     * Events after lastEventId, oldest first, or empty when it is not held and the client must reload.
+     */
+    public Optional<List<TaskChangeEvent>> eventsAfter(String lastEventId) {
+        lock.lock();
+        try {
+            return resumable(lastEventId).map(this::heldAfter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Keep idle connections open through proxies, and find the ones that have gone.
+     */
+    @Scheduled(fixedDelayString = "${tasks.stream.heartbeat:15s}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            schedule(subscriber);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.stream.subscribers", subscribers, Set::size)
+            .description("Open GET /api/tasks/stream connections")
+            .register(registry);
+        FunctionCounter.builder("tasks.stream.events", this, TaskChangeFeed::currentSequence)
+            .description("Task change events published")
+            .register(registry);
+        FunctionCounter.builder("tasks.stream.resets", resets, AtomicLong::get)
+            .description("Subscribers told to reload because the events they needed were no longer held")
+            .register(registry);
+    }
+
+    @PreDestroy
+    void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        delivery.shutdownNow();
+    }
+
+    private void publishAfterCommit(Type type, List<?> items) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(type, items);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(type, items);
+            }
+        });
+    }
+
+    private void publish(Type type, List<?> items) {
+        List<String> json = items.stream().map(this::serialize).toList();
+        lock.lock();
+        try {
+            for (String data : json) {
+                long sequence = ++lastSequence;
+                history[slot(sequence)] = new TaskChangeEvent(epoch + "-" + sequence, sequence, type, data);
+            }
+        } finally {
+            lock.unlock();
+        }
+        subscribers.forEach(this::schedule);
+    }
+
+    // The sequence to resume after, if lastEventId is from this feed and its successors are all still held
+    private Optional<Long> resumable(String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !lastEventId.substring(0, dash).equals(epoch)) {
+            return Optional.empty();
+        }
+        long sequence;
+        try {
+            sequence = Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        return sequence >= oldestHeld() - 1 && sequence <= lastSequence ? Optional.of(sequence) : Optional.empty();
+    }
+
+    private List<TaskChangeEvent> heldAfter(long sequence) {
+        List<TaskChangeEvent> events = new ArrayList<>((int) (lastSequence - sequence));
+        for (long next = sequence + 1; next <= lastSequence; next++) {
+            events.add(history[slot(next)]);
+        }
+        return events;
+    }
+
+    private long oldestHeld() {
+        return Math.max(1, lastSequence - history.length + 1);
+    }
+
+    private long currentSequence() {
+        lock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % history.length);
+    }
+
+    // At most one delivery task per subscriber is queued or running; it picks up anything published meanwhile
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.delivering.compareAndSet(false, true)) {
+            delivery.execute(() -> deliver(subscriber));
+        }
+    }
+
+    private void deliver(Subscriber subscriber) {
+        try {
+            do {
+                send(subscriber);
+                subscriber.delivering.set(false);
+                // Anything published after send() looked, but before the flag cleared, found the flag set
+            } while (subscriber.position < currentSequence() && subscriber.delivering.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            // The client has gone; the container completes the emitter and onError/onCompletion unregister it
+            logger.debug("Dropping task stream subscriber: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.delivering.set(false);
+        }
+    }
+
+    private void send(Subscriber subscriber) throws IOException {
+        List<TaskChangeEvent> events;
+        boolean reset;
+        lock.lock();
+        try {
+            reset = subscriber.resetDue || subscriber.position < oldestHeld() - 1;
+            if (reset) {
+                subscriber.position = lastSequence;
+                subscriber.resetDue = false;
+            }
+            events = heldAfter(subscriber.position);
+        } finally {
+            lock.unlock();
+        }
+
+        SseEmitter emitter = subscriber.emitter;
+        if (reset) {
+            resets.incrementAndGet();
+            emitter.send(SseEmitter.event().id(epoch + "-" + subscriber.position).name(RESET_EVENT).data("{}"));
+        }
+        for (TaskChangeEvent event : events) {
+            emitter.send(SseEmitter.event().id(event.id()).name(event.type().getEventName()).data(event.json()));
+            subscriber.position = event.sequence();
+        }
+        if (subscriber.heartbeatDue) {
+            subscriber.heartbeatDue = false;
+            if (!reset && events.isEmpty()) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    private String serialize(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean delivering = new AtomicBoolean();
+        // Only touched by the subscriber's one delivery task, which hands over through the flag above
+        private long position;  // Sequence of the last event sent
+        private boolean resetDue;
+        private volatile boolean heartbeatDue;
+
+        private Subscriber(SseEmitter emitter, long position, boolean resetDue) {
+            this.emitter = emitter;
+            this.position = position;
+            this.resetDue = resetDue;
+        }
+    }
+}
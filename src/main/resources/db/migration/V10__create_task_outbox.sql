@@ -0,0 +1,16 @@
+-- Task change events written in the same transaction as the change (TaskOutbox), then delivered in id order
+-- and deleted by TaskOutboxRelay. Rows only live until they are delivered, so the table stays small.
+CREATE TABLE task_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    task_id BIGINT NOT NULL,         -- The task changed; bulk operations write one row per task
+    event_type VARCHAR(20) NOT NULL,
+    payload VARCHAR NOT NULL,        -- JSON
+    created_at TIMESTAMP NOT NULL
+);
+
+-- Locked by whichever instance is relaying, so batches are delivered one at a time and in order
+CREATE TABLE task_outbox_relay (
+    id SMALLINT PRIMARY KEY
+);
+
+INSERT INTO task_outbox_relay (id) VALUES (1);
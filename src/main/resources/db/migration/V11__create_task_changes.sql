@@ -0,0 +1,22 @@
+-- Delta sync (GET /api/tasks/changes) reads task_changes in (change_seq, task_id) order from a given position.
+-- Each task has one row, rewritten just before every transaction that creates, changes or deletes it commits,
+-- with the task_change_counter value that transaction took. The counter row stays locked until commit, so
+-- change_seq follows commit order and nothing at or below the committed counter value is still to come.
+-- deleted_at is set for deleted tasks; those rows are purged after tasks.changes.tombstone-retention, and
+-- resumable_from moves past them so older sync tokens are refused.
+CREATE TABLE task_changes (
+    task_id BIGINT PRIMARY KEY,
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP
+);
+
+CREATE INDEX idx_task_changes_seq ON task_changes (change_seq, task_id);
+
+-- Tasks that already exist are sent by a full sync, as changes at 0
+INSERT INTO task_changes (task_id, change_seq)
+SELECT id, 0 FROM tasks;
+
+ALTER TABLE task_change_counter ADD COLUMN resumable_from BIGINT NOT NULL DEFAULT 0;
+
+-- The archiver's oldest-change-first scan of completed tasks
+CREATE INDEX idx_tasks_updated_at ON tasks (updated_at, id);
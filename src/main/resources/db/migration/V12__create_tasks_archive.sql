@@ -0,0 +1,23 @@
+-- Cold storage for completed tasks, moved out of tasks by TaskArchiver once they have not changed for
+-- tasks.archive.min-age, so the hot table and its indexes only hold work that is still live.
+-- Rows keep their original id, timestamps and version; archived tasks are read-only.
+CREATE TABLE tasks_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description VARCHAR(1000),
+    status VARCHAR(20) NOT NULL,
+    due_date TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_tasks_archive_due_date ON tasks_archive (due_date);
+
+-- Hot and archived tasks together, read by listings and GET /api/tasks/{id} with includeArchived=true.
+-- An id is in exactly one of the two tables, since the archiver inserts and deletes in one transaction.
+CREATE VIEW tasks_with_archive AS
+    SELECT id, title, description, status, due_date, created_at, updated_at, version FROM tasks
+    UNION ALL
+    SELECT id, title, description, status, due_date, created_at, updated_at, version FROM tasks_archive;
@@ -0,0 +1,9 @@
+-- Inverted trigram index over lower(title) and lower(description), maintained by TaskService.
+-- Lets substring search narrow candidates by index lookups instead of scanning every task with LIKE '%x%'.
+CREATE TABLE task_trigrams (
+    trigram VARCHAR(3) NOT NULL,
+    task_id BIGINT NOT NULL,
+    PRIMARY KEY (trigram, task_id)
+);
+
+CREATE INDEX idx_task_trigrams_task_id ON task_trigrams (task_id);
@@ -0,0 +1,18 @@
+-- Pooled id source for Task (allocationSize 50), so Hibernate can assign ids without an INSERT
+-- round-trip per row and batch the inserts. INCREMENT BY must match the entity's allocationSize.
+-- It replaces the identity default V1 gave tasks.id, so the sequence is the only source of task ids.
+-- It starts clear of every id the identity column handed out (seed data included): Hibernate's pooled
+-- optimizer uses the 50 ids up to each value it reads, hence the extra 49 and 50. The identity column's
+-- next value is read before the identity is dropped.
+CREATE SEQUENCE task_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE task_id_seq RESTART WITH (
+    SELECT GREATEST(
+        COALESCE((SELECT IDENTITY_BASE FROM INFORMATION_SCHEMA.COLUMNS
+                  WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND UPPER(TABLE_NAME) = 'TASKS'
+                    AND UPPER(COLUMN_NAME) = 'ID'), 0) + 49,
+        COALESCE((SELECT MAX(id) FROM tasks), 0) + 50
+    )
+);
+
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY;
@@ -0,0 +1,3 @@
+-- Optimistic-locking version for Task (@Version), also the basis of each task's ETag.
+-- Incremented by Hibernate on every entity update and by the bulk UPDATE statements in TaskRepositoryCustomImpl.
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
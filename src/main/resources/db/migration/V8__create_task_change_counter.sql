@@ -0,0 +1,8 @@
+-- Single-row counter of committed task changes, bumped once by every transaction that writes tasks.
+-- Shared by all application instances through the database, so it can back the ETag of list responses.
+CREATE TABLE task_change_counter (
+    id SMALLINT PRIMARY KEY,
+    change_count BIGINT NOT NULL
+);
+
+INSERT INTO task_change_counter (id, change_count) VALUES (1, 0);
@@ -0,0 +1,36 @@
+-- Summary behind GET /api/tasks/stats, kept in step by every TaskService write (TaskStatistics).
+-- task_stats holds the status counts and the open (not completed) tasks due before rolled_to.
+-- task_due_counts holds open tasks per due minute, from the start of today or rolled_to if that is earlier.
+-- A read adds the minutes between rolled_to and now to overdue and sums today's minutes, so it reads a bounded
+-- number of rows however many tasks there are. Each reconciliation recounts both from tasks and moves
+-- rolled_to up to the current minute; until the first one, reconciled_at is NULL.
+CREATE TABLE task_stats (
+    id SMALLINT PRIMARY KEY,
+    pending BIGINT NOT NULL,
+    in_progress BIGINT NOT NULL,
+    completed BIGINT NOT NULL,
+    overdue BIGINT NOT NULL,
+    rolled_to TIMESTAMP NOT NULL,
+    reconciled_at TIMESTAMP
+);
+
+CREATE TABLE task_due_counts (
+    due_minute TIMESTAMP PRIMARY KEY,
+    open_tasks BIGINT NOT NULL
+);
+
+INSERT INTO task_stats (id, pending, in_progress, completed, overdue, rolled_to, reconciled_at)
+SELECT 1,
+       COUNT(CASE WHEN status = 'PENDING' THEN 1 END),
+       COUNT(CASE WHEN status = 'IN_PROGRESS' THEN 1 END),
+       COUNT(CASE WHEN status = 'COMPLETED' THEN 1 END),
+       COUNT(CASE WHEN status <> 'COMPLETED' AND due_date < DATE_TRUNC('MINUTE', LOCALTIMESTAMP) THEN 1 END),
+       DATE_TRUNC('MINUTE', LOCALTIMESTAMP),
+       NULL
+FROM tasks;
+
+INSERT INTO task_due_counts (due_minute, open_tasks)
+SELECT DATE_TRUNC('MINUTE', due_date), COUNT(*)
+FROM tasks
+WHERE status <> 'COMPLETED' AND due_date >= CAST(CURRENT_DATE AS TIMESTAMP)
+GROUP BY DATE_TRUNC('MINUTE', due_date);
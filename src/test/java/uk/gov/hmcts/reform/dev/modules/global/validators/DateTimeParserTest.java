@@ -0,0 +1,151 @@
+package uk.gov.hmcts.reform.dev.modules.global.validators;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// DateTimeParser promises the same results and errors as the formatter it replaces, so every case is checked
+// against DateTimeFormatter.ofPattern(PATTERN) rather than against a hand-written expectation
+class DateTimeParserTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(DateTimeParser.PATTERN);
+
+    @Test
+    void shouldParseWellFormedValuesWithoutTheFormatter() {
+        // Arrange
+        List<String> values = List.of(
+            "2026-01-15T10:00:00", "2026-12-31T23:59:59", "0001-01-01T00:00:00", "2024-02-29T12:30:45"
+        );
+
+        // Act & Assert
+        for (String value : values) {
+            assertNotNull(DateTimeParser.parseFixedWidth(value), value);
+            assertSameAsFormatter(value);
+        }
+    }
+
+    @Test
+    void shouldMatchTheFormatter_ForInvalidDaysOfMonth() {
+        // Arrange - including days the formatter resolves to the month's last day rather than rejecting
+        List<String> values = List.of(
+            "2026-04-31T10:00:00", "2026-01-32T10:00:00", "2026-01-00T10:00:00", "2026-06-31T10:00:00",
+            "2026-13-01T10:00:00", "2026-00-10T10:00:00", "0000-01-01T10:00:00"
+        );
+
+        // Act & Assert
+        for (String value : values) {
+            assertNull(DateTimeParser.parseFixedWidth(value), value);
+            assertSameAsFormatter(value);
+        }
+    }
+
+    @Test
+    void shouldMatchTheFormatter_ForFebruary29() {
+        // Arrange - the formatter's SMART resolver moves a 29th in a non-leap year to the 28th
+        List<String> values = List.of(
+            "2025-02-29T10:00:00", "2100-02-29T10:00:00", "2024-02-29T10:00:00", "2000-02-29T10:00:00",
+            "2024-02-30T10:00:00"
+        );
+
+        // Act & Assert
+        assertNull(DateTimeParser.parseFixedWidth("2025-02-29T10:00:00"));
+        assertNull(DateTimeParser.parseFixedWidth("2100-02-29T10:00:00"));
+        values.forEach(DateTimeParserTest::assertSameAsFormatter);
+    }
+
+    @Test
+    void shouldMatchTheFormatter_ForOutOfRangeTimes() {
+        // Arrange
+        List<String> values = List.of(
+            "2026-01-15T24:00:00", "2026-12-31T24:00:00", "2026-01-15T24:00:01", "2026-01-15T23:60:00",
+            "2026-01-15T23:59:60", "2026-01-15T99:00:00"
+        );
+
+        // Act & Assert
+        for (String value : values) {
+            assertNull(DateTimeParser.parseFixedWidth(value), value);
+            assertSameAsFormatter(value);
+        }
+    }
+
+    @Test
+    void shouldMatchTheFormatter_ForWrongSeparators() {
+        // Arrange
+        List<String> values = List.of(
+            "2026/01/15T10:00:00", "2026-01-15 10:00:00", "2026-01-15t10:00:00", "2026-01-15T10.00.00",
+            "2026-01-15T10:00-00", "2026:01:15T10-00-00", "2026-01-15T10:00:0 "
+        );
+
+        // Act & Assert
+        for (String value : values) {
+            assertNull(DateTimeParser.parseFixedWidth(value), value);
+            assertSameAsFormatter(value);
+        }
+    }
+
+    @Test
+    void shouldMatchTheFormatter_ForNonAsciiDigits() {
+        // Arrange - Arabic-Indic, fullwidth and Devanagari digits, which Character.isDigit would accept
+        List<String> values = List.of(
+            "٢٠٢٦-01-15T10:00:00", "2026-01-15T1０:00:00", "2026-0१-15T10:00:00",
+            "+026-01-15T10:00:00", "-026-01-15T10:00:00", "2026-01-15T10:00:+1"
+        );
+
+        // Act & Assert
+        for (String value : values) {
+            assertNull(DateTimeParser.parseFixedWidth(value), value);
+            assertSameAsFormatter(value);
+        }
+    }
+
+    @Test
+    void shouldMatchTheFormatter_ForWrongLengths() {
+        // Arrange
+        List<String> values = List.of(
+            "", "2026-01-15", "2026-01-15T10:00", "2026-01-15T10:00:00Z", "2026-01-15T10:00:00.000",
+            "2026-1-15T10:00:00", "2026-01-15T1:00:00", "12026-01-15T10:00:00", "+12026-01-15T10:00:00",
+            " 2026-01-15T10:00:00"
+        );
+
+        // Act & Assert
+        for (String value : values) {
+            assertNull(DateTimeParser.parseFixedWidth(value), value);
+            assertSameAsFormatter(value);
+        }
+    }
+
+    @Test
+    void shouldMatchTheFormatter_ForRandomSingleCharacterChanges() {
+        // Arrange - a fixed seed, so a failure reproduces
+        Random random = new Random(20260115);
+        String valid = "2024-02-29T23:59:59";
+        String replacements = "0123456789-:T t/+.٠１";
+
+        // Act & Assert
+        for (int i = 0; i < 5000; i++) {
+            char[] value = valid.toCharArray();
+            value[random.nextInt(value.length)] = replacements.charAt(random.nextInt(replacements.length()));
+            assertSameAsFormatter(new String(value));
+        }
+    }
+
+    private static void assertSameAsFormatter(String value) {
+        LocalDateTime expected;
+        try {
+            expected = LocalDateTime.parse(value, FORMATTER);
+        } catch (DateTimeParseException e) {
+            assertThrows(DateTimeParseException.class, () -> DateTimeParser.parse(value), value);
+            return;
+        }
+        assertEquals(expected, DateTimeParser.parse(value), value);
+    }
+}
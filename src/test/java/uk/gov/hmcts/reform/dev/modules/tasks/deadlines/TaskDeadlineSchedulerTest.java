@@ -0,0 +1,137 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.deadlines;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.reform.dev.modules.tasks.deadlines.TaskDeadlineEvent.Kind;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// Outside a transaction, so each change is applied at once rather than after commit. The window loads find no
+// rows; every deadline comes from scheduled()
+@ExtendWith(MockitoExtension.class)
+class TaskDeadlineSchedulerTest {
+
+    private static final LocalDateTime START = LocalDateTime.parse("2026-01-15T09:00:00");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskDeadlineScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TaskDeadlineScheduler(
+            jdbcTemplate, eventPublisher, Duration.ofSeconds(1), Duration.ofMinutes(15), Duration.ofHours(1));
+        scheduler.advanceTo(START);
+    }
+
+    @Test
+    void shouldAnnounceDueSoonThenOverdue() {
+        // Arrange
+        scheduler.scheduled(task(1L, START.plusMinutes(30), TaskStatus.PENDING));
+
+        // Act & Assert
+        scheduler.advanceTo(START.plusMinutes(14));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        scheduler.advanceTo(START.plusMinutes(15));
+        scheduler.advanceTo(START.plusMinutes(30));
+        assertEquals(
+            List.of(
+                new TaskDeadlineEvent(Kind.DUE_SOON, List.of(1L), START.plusMinutes(15)),
+                new TaskDeadlineEvent(Kind.OVERDUE, List.of(1L), START.plusMinutes(30))
+            ),
+            published()
+        );
+    }
+
+    @Test
+    void shouldAnnounceARescheduledTaskOnlyAtItsNewDeadlines() {
+        // Arrange - moved from 09:30 to 09:50; the 09:15 and 09:30 entries stay in the wheel but are stale
+        scheduler.scheduled(task(1L, START.plusMinutes(30), TaskStatus.PENDING));
+        scheduler.scheduled(task(1L, START.plusMinutes(50), TaskStatus.PENDING));
+
+        // Act
+        scheduler.advanceTo(START.plusMinutes(31));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        scheduler.advanceTo(START.plusMinutes(50));
+
+        // Assert
+        assertEquals(
+            List.of(
+                new TaskDeadlineEvent(Kind.DUE_SOON, List.of(1L), START.plusMinutes(50)),
+                new TaskDeadlineEvent(Kind.OVERDUE, List.of(1L), START.plusMinutes(50))
+            ),
+            published()
+        );
+    }
+
+    @Test
+    void shouldAnnounceNothingForACancelledOrCompletedTask() {
+        // Arrange
+        scheduler.scheduled(task(1L, START.plusMinutes(20), TaskStatus.PENDING));
+        scheduler.scheduled(task(2L, START.plusMinutes(20), TaskStatus.PENDING));
+        scheduler.cancelled(1L);
+        scheduler.scheduled(task(2L, START.plusMinutes(20), TaskStatus.COMPLETED));
+
+        // Act
+        scheduler.advanceTo(START.plusMinutes(25));
+
+        // Assert
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldAnnounceATaskScheduledAgainAfterACancel() {
+        // Arrange - same due date after a cancel, so it must not be mistaken for an unchanged task
+        scheduler.scheduled(task(1L, START.plusMinutes(20), TaskStatus.PENDING));
+        scheduler.cancelled(1L);
+        scheduler.scheduled(task(1L, START.plusMinutes(20), TaskStatus.IN_PROGRESS));
+
+        // Act
+        scheduler.advanceTo(START.plusMinutes(20));
+
+        // Assert
+        assertEquals(
+            List.of(
+                new TaskDeadlineEvent(Kind.DUE_SOON, List.of(1L), START.plusMinutes(20)),
+                new TaskDeadlineEvent(Kind.OVERDUE, List.of(1L), START.plusMinutes(20))
+            ),
+            published()
+        );
+    }
+
+    private List<Object> published() {
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        return events.getAllValues();
+    }
+
+    private static Task task(Long id, LocalDateTime dueDate, TaskStatus status) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
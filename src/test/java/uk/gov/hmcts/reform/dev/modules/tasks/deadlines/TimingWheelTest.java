@@ -0,0 +1,143 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.deadlines;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    // Ticks per slot on each level, and the reach of all four levels together, as in TimingWheel
+    private static final long LEVEL_1 = 64;
+    private static final long LEVEL_2 = 64 * 64;
+    private static final long LEVEL_3 = 64 * 64 * 64;
+    private static final long SPAN = 64L * 64 * 64 * 64;
+
+    @Test
+    void shouldFireEachItemAtItsDeadline_OnTheLowestLevel() {
+        // Arrange
+        TimingWheel<Long> wheel = new TimingWheel<>(1000);
+        wheel.schedule(1001, 1001L);
+        wheel.schedule(1030, 1030L);
+        wheel.schedule(1063, 1063L);
+
+        // Act & Assert
+        assertEquals(List.of(1001L, 1030L, 1063L), firedAt(wheel, 1100));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldCascadeFromEveryHigherLevel_ToFireOnTheExactTick() {
+        // Arrange - one deadline placed on each of levels 1, 2 and 3, none on a slot boundary
+        long start = 5;
+        TimingWheel<Long> wheel = new TimingWheel<>(start);
+        List<Long> deadlines = List.of(start + LEVEL_1 + 7, start + LEVEL_2 + 129, start + LEVEL_3 + 4097);
+        deadlines.forEach(deadline -> wheel.schedule(deadline, deadline));
+
+        // Act & Assert
+        assertEquals(deadlines, firedAt(wheel, start + LEVEL_3 + LEVEL_2 + LEVEL_1));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldFireDeadlinesExactlyOnSlotBoundaries() {
+        // Arrange - from tick 0, each deadline is the first tick of a slot on some level, where cascades happen
+        TimingWheel<Long> wheel = new TimingWheel<>(0);
+        List<Long> deadlines = List.of(LEVEL_1 - 1, LEVEL_1, LEVEL_1 + 1, LEVEL_2, LEVEL_3, 2 * LEVEL_3);
+        deadlines.forEach(deadline -> wheel.schedule(deadline, deadline));
+
+        // Act & Assert
+        assertEquals(deadlines, firedAt(wheel, 2 * LEVEL_3 + 1));
+    }
+
+    @Test
+    void shouldFireDeadlinesBeyondTheWheelSpan_AfterWrappingRound() {
+        // Arrange - out of reach of every level when scheduled, so parked and placed again as the wheel turns
+        long start = 3;
+        TimingWheel<Long> wheel = new TimingWheel<>(start);
+        List<Long> deadlines = List.of(start + SPAN - 1, start + SPAN, start + SPAN + 1, start + 2 * SPAN + 17);
+        deadlines.forEach(deadline -> wheel.schedule(deadline, deadline));
+
+        // Act & Assert
+        assertEquals(deadlines, firedAt(wheel, start + 2 * SPAN + 18));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldFireDeadlinesAlreadyPassed_OnTheNextTick() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(500);
+        wheel.schedule(10, "long gone");
+        wheel.schedule(500, "now");
+
+        // Act
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(501, fired::add);
+
+        // Assert
+        assertEquals(List.of("long gone", "now"), fired);
+    }
+
+    @Test
+    void shouldFireARescheduledItemAtBothDeadlines_LeavingTheCallerToSkipTheOldOne() {
+        // Arrange - the wheel has no cancel; TaskDeadlineScheduler tells a stale entry apart by its generation
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        wheel.schedule(LEVEL_2 + 10, "first");
+        wheel.schedule(20, "moved earlier");
+
+        // Act & Assert
+        assertEquals(2, wheel.size());
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(LEVEL_2 + 10, fired::add);
+        assertEquals(List.of("moved earlier", "first"), fired);
+    }
+
+    @Test
+    void shouldDropEveryPendingItem_OnClear() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        wheel.schedule(5, "soon");
+        wheel.schedule(LEVEL_3 + 5, "later");
+        wheel.schedule(SPAN + 5, "beyond the span");
+
+        // Act
+        wheel.clear();
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(SPAN + 6, fired::add);
+
+        // Assert
+        assertTrue(fired.isEmpty());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldNotMoveBackwards() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(100);
+        wheel.schedule(101, "next");
+
+        // Act
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(50, fired::add);
+
+        // Assert
+        assertEquals(100, wheel.currentTick());
+        assertTrue(fired.isEmpty());
+    }
+
+    // Items are their own deadlines here; checks each one fires on exactly that tick, and returns them in order
+    private static List<Long> firedAt(TimingWheel<Long> wheel, long until) {
+        List<Long> fired = new ArrayList<>();
+        while (wheel.currentTick() < until) {
+            long tick = wheel.currentTick() + 1;
+            wheel.advanceTo(tick, deadline -> {
+                assertEquals(tick, deadline, "fired on the wrong tick");
+                fired.add(deadline);
+            });
+        }
+        return fired;
+    }
+}
@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.io;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.modules.tasks.io.CsvRowReader.Row;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CsvRowReaderTest {
+
+    @Test
+    void shouldSplitPlainFields() throws IOException {
+        // Act
+        List<Row> rows = readAll("title,description,dueDate\nReview,Case notes,2026-01-15T10:00:00\n");
+
+        // Assert
+        assertEquals(List.of(
+            new Row(1, List.of("title", "description", "dueDate"), null),
+            new Row(2, List.of("Review", "Case notes", "2026-01-15T10:00:00"), null)
+        ), rows);
+    }
+
+    @Test
+    void shouldKeepCommasAndDoubledQuotesInsideQuotedFields() throws IOException {
+        // Act
+        List<Row> rows = readAll("\"Smith, J\",\"say \"\"hi\"\"\",\"\",plain\n");
+
+        // Assert
+        assertEquals(List.of(new Row(1, List.of("Smith, J", "say \"hi\"", "", "plain"), null)), rows);
+    }
+
+    @Test
+    void shouldKeepLineBreaksInsideQuotedFields_CountingThemForLaterRows() throws IOException {
+        // Act
+        List<Row> rows = readAll("\"first\nsecond\",1\n\"crlf\r\nbreak\",2\r\nnext,3\n");
+
+        // Assert
+        assertEquals(List.of(
+            new Row(1, List.of("first\nsecond", "1"), null),
+            new Row(3, List.of("crlf\r\nbreak", "2"), null),
+            new Row(5, List.of("next", "3"), null)
+        ), rows);
+    }
+
+    @Test
+    void shouldReadTheSameRows_ForCrlfLfAndCrLineEnds() throws IOException {
+        // Arrange
+        String lf = "a,\"b,c\"\nd,e\n";
+
+        // Act & Assert
+        List<Row> expected = readAll(lf);
+        assertEquals(expected, readAll(lf.replace("\n", "\r\n")));
+        assertEquals(expected, readAll(lf.replace("\n", "\r")));
+        assertEquals(List.of(new Row(1, List.of("a", "b,c"), null), new Row(2, List.of("d", "e"), null)), expected);
+    }
+
+    @Test
+    void shouldReadTheSameRows_WithOrWithoutATrailingNewline() throws IOException {
+        // Arrange
+        String withoutNewline = "a,b\nc,\"d\"";
+
+        // Act & Assert
+        List<Row> expected = List.of(new Row(1, List.of("a", "b"), null), new Row(2, List.of("c", "d"), null));
+        assertEquals(expected, readAll(withoutNewline));
+        assertEquals(expected, readAll(withoutNewline + "\n"));
+        assertEquals(expected, readAll(withoutNewline + "\r\n"));
+    }
+
+    @Test
+    void shouldSkipBlankLines_KeepingLineNumbers() throws IOException {
+        // Act
+        List<Row> rows = readAll("\na\n\r\n\nb\n\n");
+
+        // Assert
+        assertEquals(List.of(new Row(2, List.of("a"), null), new Row(5, List.of("b"), null)), rows);
+    }
+
+    @Test
+    void shouldKeepEmptyFields_IncludingATrailingOne() throws IOException {
+        // Act
+        List<Row> rows = readAll("a,,\n,\n");
+
+        // Assert
+        assertEquals(List.of(new Row(1, List.of("a", "", ""), null), new Row(2, List.of("", ""), null)), rows);
+    }
+
+    @Test
+    void shouldTreatQuotesOutsideAFieldStartAsText() throws IOException {
+        // Act
+        List<Row> rows = readAll("5\" binder,\"quoted\"tail\n");
+
+        // Assert
+        assertEquals(List.of(new Row(1, List.of("5\" binder", "quotedtail"), null)), rows);
+    }
+
+    @Test
+    void shouldReportAnUnterminatedQuotedField() throws IOException {
+        // Arrange
+        CsvRowReader reader = new CsvRowReader(new StringReader("ok,1\n\"never closed,2\nmore\n"));
+
+        // Act
+        Row first = reader.next();
+        Row broken = reader.next();
+
+        // Assert
+        assertEquals(new Row(1, List.of("ok", "1"), null), first);
+        assertEquals(new Row(2, List.of("never closed,2\nmore\n"), "Unterminated quoted field"), broken);
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldReturnNull_ForEmptyInput() throws IOException {
+        assertNull(new CsvRowReader(new StringReader("")).next());
+        assertNull(new CsvRowReader(new StringReader("\r\n\n")).next());
+    }
+
+    private static List<Row> readAll(String csv) throws IOException {
+        CsvRowReader reader = new CsvRowReader(new StringReader(csv));
+        List<Row> rows = new ArrayList<>();
+        Row row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.pagination;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.InvalidTaskRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// InvalidTaskRequestException is answered with 400 by GlobalExceptionHandler
+class SyncTokenTest {
+
+    @Test
+    void shouldRoundTrip() {
+        // Arrange
+        List<SyncToken> tokens = List.of(
+            new SyncToken(0, 0), new SyncToken(1042, 0), new SyncToken(1057, 31), new SyncToken(Long.MAX_VALUE, 7)
+        );
+
+        // Act & Assert
+        for (SyncToken token : tokens) {
+            SyncToken decoded = SyncToken.decode(token.encode());
+            assertEquals(token.getChangeSeq(), decoded.getChangeSeq());
+            assertEquals(token.getTaskId(), decoded.getTaskId());
+        }
+    }
+
+    @Test
+    void shouldEncodeAsDocumented() {
+        // The README's example tokens
+        assertEquals("MTA0Mnww", new SyncToken(1042, 0).encode());
+        assertEquals("MTA1N3ww", new SyncToken(1057, 0).encode());
+    }
+
+    @Test
+    void shouldReturnNull_ForAFullSync() {
+        assertNull(SyncToken.decode(null));
+        assertNull(SyncToken.decode(""));
+        assertNull(SyncToken.decode("  "));
+    }
+
+    @Test
+    void shouldRejectMalformedTokens() {
+        // Arrange - not Base64, or Base64 of something that is not a token
+        List<String> tokens = List.of(
+            "not-a-token", "%%%", "a", encoded("1042"), encoded("1042|"), encoded("|0"), encoded("1042|0|0"),
+            encoded("1042|x"), encoded("10.5|0"), encoded("1042|0 "), encoded("99999999999999999999|0"),
+            encoded("2026-01-15T10:00|42")
+        );
+
+        // Act & Assert
+        tokens.forEach(SyncTokenTest::assertRejected);
+    }
+
+    @Test
+    void shouldRejectNegativePositions() {
+        assertRejected(encoded("-1|0"));
+        assertRejected(encoded("1042|-1"));
+        assertRejected(encoded(Long.MIN_VALUE + "|0"));
+    }
+
+    @Test
+    void shouldRejectATamperedToken() {
+        // Arrange - every single-character change to a real token either decodes to some position or is a 400
+        String token = new SyncToken(1057, 31).encode();
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_+/=.!";
+
+        // Act - anything other than InvalidTaskRequestException escapes and fails the test
+        int rejected = 0;
+        for (int i = 0; i < token.length(); i++) {
+            for (char c : alphabet.toCharArray()) {
+                try {
+                    SyncToken.decode(token.substring(0, i) + c + token.substring(i + 1));
+                } catch (InvalidTaskRequestException e) {
+                    rejected++;
+                }
+            }
+        }
+
+        // Assert
+        assertTrue(rejected > 0);
+    }
+
+    private static void assertRejected(String token) {
+        assertThrows(InvalidTaskRequestException.class, () -> SyncToken.decode(token), token);
+    }
+
+    private static String encoded(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
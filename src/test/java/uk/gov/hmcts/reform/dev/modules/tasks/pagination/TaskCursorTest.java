@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.pagination;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.InvalidTaskRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// InvalidTaskRequestException is answered with 400 by GlobalExceptionHandler
+class TaskCursorTest {
+
+    @Test
+    void shouldRoundTrip() {
+        // Arrange
+        List<TaskCursor> cursors = List.of(
+            new TaskCursor(LocalDateTime.parse("2026-01-15T10:00:00"), 1L),
+            new TaskCursor(LocalDateTime.parse("2026-01-15T10:00:30"), 42L),
+            new TaskCursor(LocalDateTime.parse("0001-01-01T00:00:00"), 0L),
+            new TaskCursor(LocalDateTime.parse("9999-12-31T23:59:59"), Long.MAX_VALUE)
+        );
+
+        // Act & Assert
+        for (TaskCursor cursor : cursors) {
+            TaskCursor decoded = TaskCursor.decode(cursor.encode());
+            assertEquals(cursor.getDueDate(), decoded.getDueDate());
+            assertEquals(cursor.getId(), decoded.getId());
+        }
+    }
+
+    @Test
+    void shouldEncodeUrlSafely() {
+        // Act
+        String encoded = new TaskCursor(LocalDateTime.parse("2026-01-15T10:00:00"), 999L).encode();
+
+        // Assert
+        assertEquals(encoded, encoded.replaceAll("[^A-Za-z0-9_-]", ""));
+    }
+
+    @Test
+    void shouldReturnNull_ForNoCursor() {
+        assertNull(TaskCursor.decode(null));
+        assertNull(TaskCursor.decode(""));
+        assertNull(TaskCursor.decode("   "));
+    }
+
+    @Test
+    void shouldRejectMalformedCursors() {
+        // Arrange - not Base64, or Base64 of something that is not a cursor
+        List<String> cursors = List.of(
+            "not-a-cursor!", "%%%", "a", encoded("no separator"), encoded("|"), encoded("2026-01-15T10:00|"),
+            encoded("|42"), encoded("2026-01-15T10:00|4x"), encoded("2026-01-15T10:00|42|7"),
+            encoded("2026-01-15|42"), encoded("2026-02-30T10:00|42"), encoded("2026-01-15T10:00|99999999999999999999")
+        );
+
+        // Act & Assert
+        cursors.forEach(TaskCursorTest::assertRejected);
+    }
+
+    @Test
+    void shouldRejectCursorsTheServerNeverIssues() {
+        // Arrange - well-formed, but with a position no task can have
+        List<String> cursors = List.of(
+            encoded("2026-01-15T10:00|-1"),
+            encoded("0000-01-01T00:00|1"),
+            encoded("+10000-01-01T00:00|1"),
+            encoded("+999999999-12-31T23:59:59.999999999|1"),
+            encoded("-999999999-01-01T00:00|1")
+        );
+
+        // Act & Assert
+        cursors.forEach(TaskCursorTest::assertRejected);
+    }
+
+    @Test
+    void shouldRejectATamperedCursor() {
+        // Arrange - every single-character change to a real cursor either decodes to some position or is a 400
+        String cursor = new TaskCursor(LocalDateTime.parse("2026-01-15T10:00:00"), 42L).encode();
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_+/=.!";
+
+        // Act - anything other than InvalidTaskRequestException escapes and fails the test
+        int rejected = 0;
+        for (int i = 0; i < cursor.length(); i++) {
+            for (char c : alphabet.toCharArray()) {
+                try {
+                    TaskCursor.decode(cursor.substring(0, i) + c + cursor.substring(i + 1));
+                } catch (InvalidTaskRequestException e) {
+                    rejected++;
+                }
+            }
+        }
+
+        // Assert
+        assertTrue(rejected > 0);
+    }
+
+    private static void assertRejected(String cursor) {
+        assertThrows(InvalidTaskRequestException.class, () -> TaskCursor.decode(cursor), cursor);
+    }
+
+    private static String encoded(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,104 @@
+package uk.gov.hmcts.reform.dev.modules.tasks.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramsTest {
+
+    @Test
+    void shouldSplitTextIntoDistinctLowerCasedTrigrams() {
+        assertEquals(List.of("rev", "evi", "vie", "iew"), List.copyOf(Trigrams.of("Review")));
+        assertEquals(Set.of("aaa"), Trigrams.of("AaAaA"));
+    }
+
+    @Test
+    void shouldReturnNoTrigrams_ForNullOrShortText() {
+        assertTrue(Trigrams.of(null).isEmpty());
+        assertTrue(Trigrams.of("").isEmpty());
+        assertTrue(Trigrams.of("ab").isEmpty());
+        assertTrue(Trigrams.forQuery("ab").isEmpty());
+        assertEquals(Set.of("abc"), Trigrams.forQuery("ABC"));
+    }
+
+    @Test
+    void shouldKeepLikeWildcardsAndQuotesAsPlainCharacters() {
+        // Search text is bound as parameters, so these are only characters to the index
+        assertEquals(Set.of("100", "00%"), Trigrams.forQuery("100%"));
+        assertEquals(Set.of("a_b", "_b'", "b'\\"), Trigrams.forQuery("a_B'\\"));
+    }
+
+    @Test
+    void shouldCapQueryTrigrams_KeepingTheFirstAndLast() {
+        // Arrange
+        String term = "the quick brown fox jumps over the lazy dog";
+        List<String> all = List.copyOf(Trigrams.of(term));
+
+        // Act
+        Set<String> sampled = Trigrams.forQuery(term);
+
+        // Assert
+        assertEquals(Trigrams.MAX_QUERY_TRIGRAMS, sampled.size());
+        assertTrue(all.containsAll(sampled));
+        assertTrue(sampled.contains(all.get(0)));
+        assertTrue(sampled.contains(all.get(all.size() - 1)));
+    }
+
+    @Test
+    void shouldFindEveryTextThatMatchesTheLikeRecheck() {
+        // Arrange - the recheck is LOWER(column) LIKE %lower(term)%, so whenever the lower-cased text contains the
+        // lower-cased term, the term's query trigrams must all be among the text's. Includes supplementary
+        // characters, and letters whose lower case is longer or depends on context
+        Random random = new Random(20260115);
+        String alphabet = "abcABC xyz-%_'\"\\éÉßİıΣσς\uD83D\uDE00";
+
+        // Act & Assert
+        for (int i = 0; i < 500; i++) {
+            String text = randomText(random, alphabet, 1 + random.nextInt(30));
+            Set<String> indexed = Trigrams.of(text);
+            for (int start = 0; start < text.length(); start++) {
+                for (int end = start + 1; end <= text.length(); end++) {
+                    String term = randomCase(random, text.substring(start, end));
+                    if (text.toLowerCase(Locale.ROOT).contains(term.toLowerCase(Locale.ROOT))) {
+                        assertTrue(indexed.containsAll(Trigrams.forQuery(term)), term + " in " + text);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldHandleVeryLongText() {
+        // Arrange
+        String text = "abcdefghij".repeat(10_000);
+
+        // Act & Assert
+        assertEquals(10, Trigrams.of(text).size());
+        assertEquals(10, Trigrams.forQuery(text).size());
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < length) {
+            int at = random.nextInt(alphabet.length());
+            if (Character.isLowSurrogate(alphabet.charAt(at))) {
+                at--;  // Keep the pair together
+            }
+            text.appendCodePoint(alphabet.codePointAt(at));
+        }
+        return text.toString();
+    }
+
+    private static String randomCase(Random random, String text) {
+        StringBuilder changed = new StringBuilder();
+        text.codePoints().forEach(c -> changed.appendCodePoint(
+            random.nextBoolean() ? Character.toUpperCase(c) : Character.toLowerCase(c)));
+        return changed.toString();
+    }
+}
@@ -1,34 +1,69 @@
 package uk.gov.hmcts.reform.dev.modules.tasks.services;
 
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.reform.dev.modules.tasks.cache.TaskResponseCache;
+import uk.gov.hmcts.reform.dev.modules.tasks.deadlines.TaskDeadlineScheduler;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkDeleteDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkResultDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.BulkStatusDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.CreationDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.CursorPageDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.ResponseDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskFilterDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.dtos.TaskPageDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.UpdateDTO;
 import uk.gov.hmcts.reform.dev.modules.tasks.dtos.UpdateStatusDTO;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.BatchValidationException;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.InvalidTaskRequestException;
+import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.StaleTaskException;
 import uk.gov.hmcts.reform.dev.modules.tasks.exceptions.TaskNotFoundException;
 import uk.gov.hmcts.reform.dev.modules.tasks.models.Task;
 import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.modules.tasks.models.TaskWithArchive;
+import uk.gov.hmcts.reform.dev.modules.tasks.outbox.TaskOutbox;
+import uk.gov.hmcts.reform.dev.modules.tasks.pagination.CountMode;
 import uk.gov.hmcts.reform.dev.modules.tasks.repositories.TaskRepository;
+import uk.gov.hmcts.reform.dev.modules.tasks.repositories.TaskRepositoryCustom.DeletedTask;
+import uk.gov.hmcts.reform.dev.modules.tasks.repositories.TaskRepositoryCustom.StatusChange;
+import uk.gov.hmcts.reform.dev.modules.tasks.stream.TaskChangeFeed;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -40,6 +75,33 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskCountCache taskCountCache;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskResponseCache taskResponseCache;
+
+    @Mock
+    private TaskChangeCounter taskChangeCounter;
+
+    @Mock
+    private TaskStatistics taskStatistics;
+
+    @Mock
+    private TaskDeadlineScheduler taskDeadlines;
+
+    @Mock
+    private TaskChangeFeed taskChangeFeed;
+
+    @Mock
+    private TaskOutbox taskOutbox;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private TaskService taskService;
 
@@ -74,6 +136,11 @@ class TaskServiceTest {
         assertEquals(LocalDateTime.parse(dueDate), result.getDueDate());
 
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskChangeCounter, times(1)).changed(List.of(1L));
+        verify(taskStatistics, times(1)).added(savedTask);
+        verify(taskDeadlines, times(1)).scheduled(savedTask);
+        verify(taskOutbox, times(1)).created(result);
+        verify(taskChangeFeed, times(1)).created(result);
     }
 
     @Test
@@ -134,10 +201,11 @@ class TaskServiceTest {
         task2.setDueDate(LocalDateTime.parse("2026-01-16T10:00:00"));
 
         List<Task> tasks = Arrays.asList(task1, task2);
-        Page<Task> taskPage = new PageImpl<>(tasks);
+        Page<ResponseDTO> taskPage = new PageImpl<>(tasks.stream().map(ResponseDTO::fromTask).toList());
 
-        // Mock the Specification-based findAll method
-        when(taskRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(taskPage);
+        // Mock the Specification-based findPage projection
+        when(taskRepository.findPage(eq(Task.class), any(Specification.class), any(Pageable.class)))
+            .thenReturn(taskPage);
 
         // Act - Create a pageable
         Pageable pageable = PageRequest.of(0, 10, Sort.by("dueDate").ascending());
@@ -149,7 +217,7 @@ class TaskServiceTest {
         assertEquals("Task 1", result.getContent().get(0).getTitle());
         assertEquals("Task 2", result.getContent().get(1).getTitle());
 
-        verify(taskRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
+        verify(taskRepository, times(1)).findPage(eq(Task.class), any(Specification.class), any(Pageable.class));
     }
 
     @SuppressWarnings("unchecked")
@@ -171,10 +239,10 @@ class TaskServiceTest {
         task2.setDueDate(LocalDateTime.parse("2026-01-16T10:00:00"));
 
         List<Task> tasks = Arrays.asList(task1, task2);
-        Page<Task> taskPage = new PageImpl<>(tasks);
+        Page<ResponseDTO> taskPage = new PageImpl<>(tasks.stream().map(ResponseDTO::fromTask).toList());
 
         // Mock ANY specification + pageable
-        when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
+        when(taskRepository.findPage(eq(Task.class), any(Specification.class), any(Pageable.class)))
             .thenReturn(taskPage);
 
         // Act
@@ -185,7 +253,7 @@ class TaskServiceTest {
         assertEquals(2, result.getContent().size());
         assertEquals(status, result.getContent().getFirst().getStatus());
 
-        verify(taskRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
+        verify(taskRepository, times(1)).findPage(eq(Task.class), any(Specification.class), any(Pageable.class));
     }
 
     @Test
@@ -193,35 +261,32 @@ class TaskServiceTest {
         // Arrange - Test data
         Long taskId = 1L;
 
-        // Mock existing task
-        Task existingTask = new Task();
-        existingTask.setId(taskId);
-        existingTask.setTitle("Review case");
-        existingTask.setStatus(TaskStatus.PENDING);
-        existingTask.setDueDate(LocalDateTime.parse("2026-01-15T10:00:00"));
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-
-        // Mock saved task with updated status
+        // Mock the task as the UPDATE left it, moved on from PENDING
         TaskStatus newStatus = TaskStatus.IN_PROGRESS;
         Task updatedTask = new Task();
         updatedTask.setId(taskId);
         updatedTask.setTitle("Review case");
         updatedTask.setStatus(newStatus);
         updatedTask.setDueDate(LocalDateTime.parse("2026-01-15T10:00:00"));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.changeStatus(taskId, newStatus, null))
+            .thenReturn(Optional.of(new StatusChange(updatedTask, TaskStatus.PENDING)));
 
         UpdateStatusDTO dto = new UpdateStatusDTO(newStatus);
 
         // Act
         ResponseDTO result = taskService.updateStatus(taskId, dto);
 
-        // Assert
+        // Assert - one UPDATE, no load or save
         assertNotNull(result);
         assertEquals(taskId, result.getId());
         assertEquals(newStatus, result.getStatus());
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, never()).findById(taskId);
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskStatistics, times(1)).statusChanged(TaskStatus.PENDING, updatedTask);
+        verify(taskDeadlines, times(1)).scheduled(updatedTask);
+        verify(taskOutbox, times(1)).statusChanged(result);
+        verify(taskChangeFeed, times(1)).statusChanged(result);
     }
 
     @Test
@@ -229,42 +294,83 @@ class TaskServiceTest {
         // Arrange
         Long taskId = 999L;
         TaskStatus newStatus = TaskStatus.IN_PROGRESS;
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.changeStatus(taskId, newStatus, null)).thenReturn(Optional.empty());
 
         UpdateStatusDTO dto = new UpdateStatusDTO(newStatus);
 
-        // Act & Assert
+        // Act & Assert - without an expected version, nothing matching can only mean no task
         assertThrows(TaskNotFoundException.class, () -> taskService.updateStatus(taskId, dto));
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).findVersionById(taskId);
+        verify(taskStatistics, never()).statusChanged(any(), any());
+    }
+
+    @Test
+    void shouldRejectStatusUpdate_WhenExpectedVersionIsStale() {
+        // Arrange - the client read version 2, but the task has since moved on, so the UPDATE matches nothing
+        Long taskId = 1L;
+        when(taskRepository.changeStatus(taskId, TaskStatus.COMPLETED, 2L)).thenReturn(Optional.empty());
+        when(taskRepository.findVersionById(taskId)).thenReturn(Optional.of(3L));
+
+        UpdateStatusDTO dto = new UpdateStatusDTO(TaskStatus.COMPLETED);
+
+        // Act & Assert
+        assertThrows(StaleTaskException.class, () -> taskService.updateStatus(taskId, dto, 2L));
+
+        verify(taskStatistics, never()).statusChanged(any(), any());
+        verify(taskResponseCache, never()).invalidate(taskId);
+    }
+
+    @Test
+    void shouldUpdateStatus_WhenNotExistsWithExpectedVersion_ThrowsNotFound() {
+        // Arrange - a missing task is a 404 even when the client sent If-Match
+        Long taskId = 999L;
+        when(taskRepository.changeStatus(taskId, TaskStatus.COMPLETED, 2L)).thenReturn(Optional.empty());
+        when(taskRepository.findVersionById(taskId)).thenReturn(Optional.empty());
+
+        UpdateStatusDTO dto = new UpdateStatusDTO(TaskStatus.COMPLETED);
+
+        // Act & Assert
+        assertThrows(TaskNotFoundException.class, () -> taskService.updateStatus(taskId, dto, 2L));
     }
 
     @Test
     void shouldDeleteTask_WhenExists() {
         // Arrange
         Long taskId = 1L;
-        when(taskRepository.existsById(taskId)).thenReturn(true);
+        LocalDateTime dueDate = LocalDateTime.parse("2026-01-15T10:00:00");
+        when(taskRepository.deleteTask(taskId))
+            .thenReturn(Optional.of(new DeletedTask(taskId, TaskStatus.PENDING, dueDate)));
 
         // Act
         taskService.deleteTask(taskId);
 
-        // Assert
-        verify(taskRepository, times(1)).existsById(taskId);
-        verify(taskRepository, times(1)).deleteById(taskId);
+        // Assert - one conditional DELETE, no existence check or load first
+        verify(taskRepository, times(1)).deleteTask(taskId);
+        verify(taskRepository, never()).existsById(taskId);
+        verify(taskRepository, never()).findById(taskId);
+        verify(taskSearchIndex, times(1)).remove(taskId);
+        verify(taskResponseCache, times(1)).invalidate(taskId);
+        verify(taskStatistics, times(1)).deleted(TaskStatus.PENDING, dueDate);
+        verify(taskChangeCounter, times(1)).deleted(List.of(taskId));
+        verify(taskDeadlines, times(1)).cancelled(taskId);
+        verify(taskOutbox, times(1)).deleted(taskId);
+        verify(taskChangeFeed, times(1)).deleted(taskId);
     }
 
     @Test
     void shouldDeleteTask_WhenNotExists_ThrowsException() {
         // Arrange
         Long taskId = 999L;
-        when(taskRepository.existsById(taskId)).thenReturn(false);
+        when(taskRepository.deleteTask(taskId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(taskId));
 
-        verify(taskRepository, times(1)).existsById(taskId);
-        verify(taskRepository, never()).deleteById(taskId);
+        verify(taskRepository, times(1)).deleteTask(taskId);
+        verify(taskStatistics, never()).deleted(any(), any());
+        verify(taskSearchIndex, never()).remove(taskId);
+        verify(taskChangeCounter, never()).deleted(any());
     }
 
     @Test
@@ -309,6 +415,30 @@ class TaskServiceTest {
 
         verify(taskRepository, times(1)).findById(taskId);
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskSearchIndex, times(1)).index(updatedTask);
+        verify(taskResponseCache, times(1)).invalidate(taskId);
+    }
+
+    @Test
+    void shouldNotReindexTask_WhenTextUnchanged() {
+        // Arrange
+        Long taskId = 1L;
+        Task existingTask = new Task();
+        existingTask.setId(taskId);
+        existingTask.setTitle("Review case");
+        existingTask.setDescription("Check documents");
+        existingTask.setStatus(TaskStatus.PENDING);
+        existingTask.setDueDate(LocalDateTime.parse("2026-01-15T10:00:00"));
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(existingTask);
+
+        UpdateDTO dto = new UpdateDTO("Review case", "Check documents", "2026-02-20T15:00:00", TaskStatus.IN_PROGRESS);
+
+        // Act
+        taskService.updateTask(taskId, dto);
+
+        // Assert
+        verify(taskSearchIndex, never()).index(any(Task.class));
     }
 
     @Test
@@ -330,4 +460,411 @@ class TaskServiceTest {
         verify(taskRepository, never()).save(any(Task.class));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldReturnNextCursor_WhenMoreTasksAvailable() {
+        // Arrange
+        Task task1 = new Task();
+        task1.setId(1L);
+        task1.setTitle("Task 1");
+        task1.setStatus(TaskStatus.PENDING);
+        task1.setDueDate(LocalDateTime.parse("2026-01-15T10:00:00"));
+
+        Task task2 = new Task();
+        task2.setId(2L);
+        task2.setTitle("Task 2");
+        task2.setStatus(TaskStatus.PENDING);
+        task2.setDueDate(LocalDateTime.parse("2026-01-16T10:00:00"));
+
+        Pageable pageable = PageRequest.of(0, 2);
+        when(taskRepository.findSlice(eq(Task.class), any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(
+                List.of(ResponseDTO.fromTask(task1), ResponseDTO.fromTask(task2)), pageable, true));
+
+        // Act
+        CursorPageDTO result = taskService.getTasksByCursor(null, null, null, null, "", 2);
+
+        // Assert - cursor points at the last task returned
+        assertEquals(2, result.getContent().size());
+        assertNotNull(result.getNextCursor());
+
+        CursorPageDTO nextPage = taskService.getTasksByCursor(null, null, null, null, result.getNextCursor(), 2);
+        assertNotNull(nextPage);
+        verify(taskRepository, times(2)).findSlice(eq(Task.class), any(Specification.class), any(Pageable.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldReturnNullCursor_WhenLastPage() {
+        // Arrange
+        Task task1 = new Task();
+        task1.setId(1L);
+        task1.setTitle("Task 1");
+        task1.setStatus(TaskStatus.PENDING);
+        task1.setDueDate(LocalDateTime.parse("2026-01-15T10:00:00"));
+
+        when(taskRepository.findSlice(eq(Task.class), any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(ResponseDTO.fromTask(task1)), PageRequest.of(0, 10), false));
+
+        // Act
+        CursorPageDTO result = taskService.getTasksByCursor(TaskStatus.PENDING, null, null, null, "", 10);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldRejectMalformedCursor() {
+        // Act & Assert - neither Base64 nor a (dueDate, id) pair
+        assertThrows(
+            InvalidTaskRequestException.class,
+            () -> taskService.getTasksByCursor(null, null, null, null, "not-a-cursor!", 10)
+        );
+
+        verify(taskRepository, never()).findSlice(eq(Task.class), any(Specification.class), any(Pageable.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldSkipCount_WhenCountModeNone() {
+        // Arrange
+        Task task1 = new Task();
+        task1.setId(1L);
+        task1.setTitle("Task 1");
+        task1.setStatus(TaskStatus.PENDING);
+        task1.setDueDate(LocalDateTime.parse("2026-01-15T10:00:00"));
+
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("dueDate").ascending());
+        when(taskRepository.findSlice(eq(Task.class), any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(ResponseDTO.fromTask(task1)), pageable, true));
+
+        // Act
+        TaskPageDTO result = taskService.getTaskPage(null, "review", null, null, pageable, CountMode.NONE);
+
+        // Assert - no totals, but we still know there is another page
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getPage().getTotalElements());
+        assertNull(result.getPage().getTotalPages());
+        assertTrue(result.getPage().isHasNext());
+
+        verify(taskRepository, never()).findPage(eq(Task.class), any(Specification.class), any(Pageable.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldUseCachedCount_WhenCountModeEstimated() {
+        // Arrange
+        Task task1 = new Task();
+        task1.setId(1L);
+        task1.setTitle("Task 1");
+        task1.setStatus(TaskStatus.PENDING);
+        task1.setDueDate(LocalDateTime.parse("2026-01-15T10:00:00"));
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("dueDate").ascending());
+        when(taskCountCache.get(eq(TaskStatus.PENDING), eq("review"), isNull(), isNull()))
+            .thenReturn(OptionalLong.of(42L));
+        when(taskRepository.findSlice(eq(Task.class), any(Specification.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(ResponseDTO.fromTask(task1)), pageable, true));
+
+        // Act
+        TaskPageDTO result =
+            taskService.getTaskPage(TaskStatus.PENDING, "review", null, null, pageable, CountMode.ESTIMATED);
+
+        // Assert
+        assertEquals(42L, result.getPage().getTotalElements());
+        assertEquals(5, result.getPage().getTotalPages());
+        assertTrue(result.getPage().isEstimated());
+
+        verify(taskRepository, never()).findPage(eq(Task.class), any(Specification.class), any(Pageable.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldCountAndCache_WhenCountModeEstimatedMisses() {
+        // Arrange
+        Task task1 = new Task();
+        task1.setId(1L);
+        task1.setTitle("Task 1");
+        task1.setStatus(TaskStatus.PENDING);
+        task1.setDueDate(LocalDateTime.parse("2026-01-15T10:00:00"));
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("dueDate").ascending());
+        when(taskCountCache.get(any(), any(), any(), any())).thenReturn(OptionalLong.empty());
+        when(taskRepository.findPage(eq(Task.class), any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(ResponseDTO.fromTask(task1)), pageable, 1));
+
+        // Act
+        TaskPageDTO result = taskService.getTaskPage(null, null, null, null, pageable, CountMode.ESTIMATED);
+
+        // Assert - exact count, stored for next time
+        assertEquals(1L, result.getPage().getTotalElements());
+        assertFalse(result.getPage().isEstimated());
+
+        verify(taskCountCache, times(1)).put(isNull(), isNull(), isNull(), isNull(), eq(1L), anyLong());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldCountExactlyWithoutCaching_WhenIncludingArchived() {
+        // Arrange
+        Task task1 = new Task();
+        task1.setId(1L);
+        task1.setTitle("Task 1");
+        task1.setStatus(TaskStatus.COMPLETED);
+        task1.setDueDate(LocalDateTime.parse("2025-01-15T10:00:00"));
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("dueDate").ascending());
+        when(taskRepository.findPage(eq(TaskWithArchive.class), any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(ResponseDTO.fromTask(task1)), pageable, 1));
+
+        // Act
+        TaskPageDTO result = taskService.getTaskPage(
+            TaskStatus.COMPLETED, null, null, null, pageable, CountMode.ESTIMATED, true);
+
+        // Assert - cached totals cover the tasks table only, so they are neither read nor written
+        assertEquals(1L, result.getPage().getTotalElements());
+        assertFalse(result.getPage().isEstimated());
+
+        verify(taskCountCache, never()).get(any(), any(), any(), any());
+        verify(taskCountCache, never()).put(any(), any(), any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldInvalidateCountCache_WhenTaskCreated() {
+        // Arrange
+        Task savedTask = new Task();
+        savedTask.setId(1L);
+        savedTask.setTitle("Review case");
+        savedTask.setStatus(TaskStatus.PENDING);
+        savedTask.setDueDate(LocalDateTime.parse("2026-01-15T10:00:00"));
+        when(taskRepository.save(any(Task.class))).thenReturn(savedTask);
+
+        // Act
+        taskService.createTask(new CreationDTO("Review case", null, "2026-01-15T10:00:00"));
+
+        // Assert
+        verify(taskCountCache, times(1)).invalidate();
+        verify(taskSearchIndex, times(1)).index(savedTask);
+    }
+
+    @Test
+    void shouldCreateTasksInBatch() {
+        // Arrange
+        List<CreationDTO> dtos = List.of(
+            new CreationDTO("Batch one", null, "2026-01-15T10:00:00"),
+            new CreationDTO("Batch two", "Second", "2026-01-16T10:00:00")
+        );
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            long id = 1000001L;
+            for (Task task : tasks) {
+                task.setId(id++);
+            }
+            return tasks;
+        });
+
+        // Act
+        List<ResponseDTO> result = taskService.createTasks(dtos);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("Batch one", result.get(0).getTitle());
+        assertEquals(TaskStatus.PENDING, result.get(1).getStatus());
+        assertEquals(LocalDateTime.parse("2026-01-16T10:00:00"), result.get(1).getDueDate());
+
+        verify(taskRepository, times(1)).saveAll(anyList());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskSearchIndex, times(1)).index(anyList());
+        verify(taskCountCache, times(1)).invalidate();
+    }
+
+    @Test
+    void shouldRejectWholeBatch_WhenAnyItemInvalid() {
+        // Arrange - second item has a blank title, third an unparseable due date
+        List<CreationDTO> dtos = List.of(
+            new CreationDTO("Valid task", null, "2026-01-15T10:00:00"),
+            new CreationDTO(" ", null, "2026-01-16T10:00:00"),
+            new CreationDTO("Bad date", null, "16/01/2026")
+        );
+
+        // Act
+        BatchValidationException ex =
+            assertThrows(BatchValidationException.class, () -> taskService.createTasks(dtos));
+
+        // Assert - errors are keyed by item index so the client can find them
+        assertEquals(2, ex.getValidationErrors().size());
+        assertTrue(ex.getValidationErrors().containsKey("[1].title"));
+        assertTrue(ex.getValidationErrors().containsKey("[2].dueDate"));
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldSaveValidatedTasksWithoutValidatingOrCappingThem() {
+        // Arrange - more tasks than a batch create accepts, one with a title validation would reject
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 1001; i++) {
+            String title = i == 0 ? " " : "Imported " + i;
+            tasks.add(TaskService.newTask(new CreationDTO(title, null, "2026-01-15T10:00:00")));
+        }
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<ResponseDTO> result = taskService.createValidatedTasks(tasks);
+
+        // Assert
+        assertEquals(1001, result.size());
+        verify(taskRepository, times(1)).saveAll(tasks);
+        verify(taskSearchIndex, times(1)).index(tasks);
+    }
+
+    @Test
+    void shouldRejectEmptyBatch() {
+        assertThrows(InvalidTaskRequestException.class, () -> taskService.createTasks(List.of()));
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldBulkUpdateStatusAndReportEachTaskChanged() {
+        // Arrange - task 4 is already COMPLETED, so the UPDATE skips it
+        List<Long> ids = List.of(1L, 2L, 3L, 4L);
+        when(taskRepository.findIds(any(Specification.class), anyInt())).thenReturn(ids);
+        List<StatusChange> changes = LongStream.rangeClosed(1, 3).mapToObj(id -> {
+            Task task = new Task();
+            task.setId(id);
+            task.setStatus(TaskStatus.COMPLETED);
+            task.setDueDate(LocalDateTime.parse("2026-01-15T10:00:00"));
+            return new StatusChange(task, TaskStatus.PENDING);
+        }).toList();
+        when(taskRepository.updateStatus(ids, TaskStatus.COMPLETED)).thenReturn(changes);
+        BulkStatusDTO dto = new BulkStatusDTO(ids, null, TaskStatus.COMPLETED);
+
+        // Act
+        BulkResultDTO result = taskService.bulkUpdateStatus(dto);
+
+        // Assert - no per-task reads or saves, and one outbox message and stream event per task changed
+        assertEquals(3, result.getAffected());
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskCountCache, times(1)).invalidate();
+        verify(taskChangeCounter, times(1)).changed(List.of(1L, 2L, 3L));
+        changes.forEach(change -> verify(taskStatistics, times(1)).statusChanged(TaskStatus.PENDING, change.task()));
+        verify(taskDeadlines, times(1)).changedInBulk();
+        verify(taskResponseCache, never()).invalidateAll();
+        verify(taskResponseCache, times(1)).invalidate(3L);
+        verify(taskOutbox, times(1)).statusChanged(argThat((List<ResponseDTO> tasks) ->
+            tasks.stream().map(ResponseDTO::getId).toList().equals(List.of(1L, 2L, 3L))));
+        verify(taskChangeFeed, times(1)).statusChanged(argThat((List<ResponseDTO> tasks) -> tasks.size() == 3));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldRejectBulkSelection_WhenIdsAndFilterBothOrNeitherGiven() {
+        TaskFilterDTO filter = new TaskFilterDTO(TaskStatus.PENDING, null, null, null);
+
+        assertThrows(InvalidTaskRequestException.class, () -> taskService.bulkUpdateStatus(
+            new BulkStatusDTO(List.of(1L), filter, TaskStatus.COMPLETED)));
+        assertThrows(InvalidTaskRequestException.class, () -> taskService.bulkUpdateStatus(
+            new BulkStatusDTO(null, null, TaskStatus.COMPLETED)));
+        assertThrows(InvalidTaskRequestException.class, () -> taskService.bulkDelete(
+            new BulkDeleteDTO(null, new TaskFilterDTO())));
+
+        verify(taskRepository, never()).updateStatus(anyList(), any(TaskStatus.class));
+        verify(taskRepository, never()).findIds(any(Specification.class), anyInt());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldBulkDeleteMatchingTasksAndTheirSearchPostings() {
+        // Arrange
+        when(taskRepository.findIds(any(Specification.class), anyInt())).thenReturn(List.of(7L, 8L));
+        LocalDateTime dueDate = LocalDateTime.parse("2026-01-15T10:00:00");
+        when(taskRepository.deleteByIds(List.of(7L, 8L))).thenReturn(List.of(
+            new DeletedTask(7L, TaskStatus.COMPLETED, dueDate), new DeletedTask(8L, TaskStatus.COMPLETED, dueDate)));
+        BulkDeleteDTO dto = new BulkDeleteDTO(null, new TaskFilterDTO(TaskStatus.COMPLETED, null, null, null));
+
+        // Act
+        BulkResultDTO result = taskService.bulkDelete(dto);
+
+        // Assert
+        assertEquals(2, result.getAffected());
+        verify(taskSearchIndex, times(1)).remove(List.of(7L, 8L));
+        verify(taskStatistics, times(2)).deleted(TaskStatus.COMPLETED, dueDate);
+        verify(taskChangeCounter, times(1)).deleted(List.of(7L, 8L));
+        verify(taskCountCache, times(1)).invalidate();
+        verify(taskOutbox, times(1)).deleted(List.of(7L, 8L));
+        verify(taskChangeFeed, times(1)).deleted(List.of(7L, 8L));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldBulkDeleteOnlyWhatTheDeleteRemoved_WhenATaskIsDeletedConcurrently() {
+        // Arrange - task 7 was deleted by another request between reading the ids and the DELETE
+        when(taskRepository.findIds(any(Specification.class), anyInt())).thenReturn(List.of(7L, 8L));
+        LocalDateTime dueDate = LocalDateTime.parse("2026-01-15T10:00:00");
+        when(taskRepository.deleteByIds(List.of(7L, 8L)))
+            .thenReturn(List.of(new DeletedTask(8L, TaskStatus.COMPLETED, dueDate)));
+        BulkDeleteDTO dto = new BulkDeleteDTO(null, new TaskFilterDTO(TaskStatus.COMPLETED, null, null, null));
+
+        // Act
+        BulkResultDTO result = taskService.bulkDelete(dto);
+
+        // Assert
+        assertEquals(1, result.getAffected());
+        verify(taskStatistics, times(1)).deleted(TaskStatus.COMPLETED, dueDate);
+        verify(taskChangeCounter, times(1)).deleted(List.of(8L));
+        verify(taskOutbox, times(1)).deleted(List.of(8L));
+        verify(taskChangeFeed, times(1)).deleted(List.of(8L));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldRejectBulkDelete_WhenFilterMatchesTooManyTasks() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, TaskService.MAX_BULK_SIZE + 1).boxed().toList();
+        when(taskRepository.findIds(any(Specification.class), eq(TaskService.MAX_BULK_SIZE + 1)))
+            .thenReturn(ids);
+        BulkDeleteDTO dto = new BulkDeleteDTO(null, new TaskFilterDTO(TaskStatus.COMPLETED, null, null, null));
+
+        // Act & Assert
+        assertThrows(InvalidTaskRequestException.class, () -> taskService.bulkDelete(dto));
+        verify(taskRepository, never()).deleteByIds(any());
+        verify(taskChangeCounter, never()).deleted(any());
+    }
+
+    @Test
+    void shouldParseDueDatesExactlyAsTheFormatterDoes() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+        List<String> values = List.of(
+            "2026-01-15T10:30:00", "2024-02-29T23:59:59", "0001-01-01T00:00:00",
+            // Resolved, not rejected, by the formatter: clamped to the month's last day, or rolled to the next day
+            "2026-02-30T10:00:00", "2026-04-31T00:00:00", "2026-01-01T24:00:00",
+            // Rejected
+            "0000-01-01T00:00:00", "2026-13-01T00:00:00", "2026-01-32T00:00:00", "2026-01-01T23:60:00",
+            "2026-1-01T00:00:00", "2026-01-01 10:00:00", "2026-01-01T10:00", "2026-01-01T10:00:00Z"
+        );
+
+        for (String value : values) {
+            Object expected;
+            try {
+                expected = LocalDateTime.parse(value, formatter);
+            } catch (DateTimeParseException e) {
+                expected = DateTimeParseException.class;
+            }
+            // Twice, so the second read comes from the value the request has already parsed
+            CreationDTO dto = new CreationDTO("Parsed", null, new String(value));
+            for (int attempt = 0; attempt < 2; attempt++) {
+                Object actual;
+                try {
+                    actual = dto.parsedDateTime();
+                } catch (DateTimeParseException e) {
+                    actual = DateTimeParseException.class;
+                }
+                assertEquals(expected, actual, value);
+            }
+        }
+    }
+
 }